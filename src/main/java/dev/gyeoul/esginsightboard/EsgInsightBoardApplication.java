@@ -3,6 +3,7 @@ package dev.gyeoul.esginsightboard;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * ESG Insight Board 애플리케이션의 메인 클래스
@@ -13,6 +14,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
  */
 @SpringBootApplication
 @EnableJpaAuditing  // JPA Auditing 기능 활성화 (생성일시, 수정일시 자동화)
+@EnableScheduling   // 주기 작업 활성화 (토큰 폐기 목록 갱신 등)
 public class EsgInsightBoardApplication {
 
     /**
@@ -1,5 +1,6 @@
 package dev.gyeoul.esginsightboard.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -20,10 +21,14 @@ public class BeanConfig {
 
     /**
      * 비밀번호 인코더 빈
+     * <p>
+     * BCrypt 비용(strength, 4~31)은 security.password.bcrypt-strength로 조정합니다. 값이 1 늘 때마다 해싱 시간이 두 배가 됩니다.
+     * 저장된 해시에는 생성 당시의 비용이 기록되므로, 값을 바꿔도 기존 비밀번호는 그대로 검증됩니다.
+     * </p>
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -0,0 +1,97 @@
+package dev.gyeoul.esginsightboard.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.dto.ChartDataDto;
+import dev.gyeoul.esginsightboard.util.ChartColumnarCodec;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 차트 응답을 열 지향 바이너리 포맷({@link ChartColumnarCodec})으로 변환하는 컨버터
+ * <p>
+ * 클라이언트가 {@code Accept: application/vnd.esg.chart-columnar}를 보낸 경우에만 사용되며 (opt-in),
+ * 그 외 요청은 기존처럼 JSON으로 응답합니다.
+ * 오류 응답은 JSON으로만 작성되므로 클라이언트는
+ * {@code Accept: application/vnd.esg.chart-columnar, application/json;q=0.5}처럼 JSON도 함께 허용해야 합니다.
+ * 쓰기 전용이며, ChartDataDto와 ChartDataDto 목록(List 등)만 지원합니다.
+ * </p>
+ */
+public class ChartColumnarHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType CHART_COLUMNAR = MediaType.parseMediaType(ChartColumnarCodec.MEDIA_TYPE);
+
+    private final ObjectMapper objectMapper;
+
+    public ChartColumnarHttpMessageConverter(ObjectMapper objectMapper) {
+        super(CHART_COLUMNAR);
+        this.objectMapper = objectMapper;
+    }
+
+    // 제네릭 정보가 없는 경로에서는 단건만 허용 (컬렉션은 요소 타입을 확인하는 canWrite(Type, ...)에서만 허용)
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ChartDataDto.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isChartType(type != null ? type : clazz) && canWrite(mediaType);
+    }
+
+    // ChartDataDto 또는 요소 타입이 ChartDataDto인 컬렉션인지 확인 (다른 컬렉션 응답에는 사용하지 않음)
+    private static boolean isChartType(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return ChartDataDto.class.isAssignableFrom(clazz);
+        }
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && Collection.class.isAssignableFrom(raw)) {
+            Type[] arguments = parameterized.getActualTypeArguments();
+            return arguments.length == 1 && arguments[0] instanceof Class<?> element
+                    && ChartDataDto.class.isAssignableFrom(element);
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        List<ChartDataDto> charts = body instanceof ChartDataDto chart
+                ? List.of(chart)
+                : List.copyOf((Collection<ChartDataDto>) body);
+        ChartColumnarCodec.encode(charts, outputMessage.getBody(), objectMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("차트 바이너리 포맷은 응답 전용입니다.", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("차트 바이너리 포맷은 응답 전용입니다.", inputMessage);
+    }
+}
@@ -0,0 +1,42 @@
+package dev.gyeoul.esginsightboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 차트 시리즈 다운샘플링 설정 (chart.downsampling.*)
+ * <p>
+ * 차트 유형별로 그리드 한 칸(chartGrid = 1)에 표시할 최대 점 개수를 지정하며,
+ * 실제 목표 개수는 "칸당 점 개수 × chartGrid(1~4)"입니다.
+ * 설정되지 않은 차트 유형(Pie, Donut 등 항목형 차트)은 다운샘플링하지 않습니다.
+ * </p>
+ *
+ * <pre>
+ * chart:
+ *   downsampling:
+ *     points-per-grid:
+ *       line: 250
+ *       bar: 60
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chart.downsampling")
+public class ChartDownsamplingProperties {
+
+    /**
+     * 다운샘플링 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 차트 유형(소문자) → 그리드 한 칸당 최대 점 개수
+     */
+    private Map<String, Integer> pointsPerGrid = new LinkedHashMap<>();
+}
@@ -0,0 +1,59 @@
+package dev.gyeoul.esginsightboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 차트 임시 저장소 설정 (chart.drafts.*)
+ * <p>
+ * 임시 저장(ChartRepository)은 사용자별로 최근 max-per-user건만 유지하며, ttl이 지난 항목은 주기적으로 제거합니다.
+ * journal.enabled가 true이면 변경 내역을 로컬 파일에 이어 쓰고, 서버 시작 시 다시 읽어 임시 저장을 복원합니다.
+ * </p>
+ *
+ * <pre>
+ * chart:
+ *   drafts:
+ *     max-per-user: 50
+ *     ttl: 24h
+ *     journal:
+ *       enabled: true
+ *       path: ./data/chart-drafts.journal
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "chart.drafts")
+public class ChartDraftProperties {
+
+    /**
+     * 사용자별 최대 임시 저장 건수 (초과하면 오래된 항목부터 제거)
+     */
+    private int maxPerUser = 50;
+
+    /**
+     * 임시 저장 보관 기간
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    private Journal journal = new Journal();
+
+    @Getter
+    @Setter
+    public static class Journal {
+
+        /**
+         * 파일 저널 사용 여부 (서버 재시작 후 임시 저장 복원)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 저널 파일 경로
+         */
+        private String path = "./data/chart-drafts.journal";
+    }
+}
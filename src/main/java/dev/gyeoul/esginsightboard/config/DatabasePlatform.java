@@ -0,0 +1,61 @@
+package dev.gyeoul.esginsightboard.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 현재 연결된 데이터베이스 종류를 확인하는 컴포넌트
+ * <p>
+ * 운영 환경은 PostgreSQL, 로컬/테스트 환경은 내장 H2를 사용합니다.
+ * PostgreSQL 전용 기능(GiST 인덱스, 파티셔닝 등)을 사용하는 쿼리는
+ * 이 컴포넌트로 DB 종류를 확인한 뒤 분기합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabasePlatform {
+
+    private final DataSource dataSource;
+
+    // 최초 조회 후 캐시 (DB 종류는 실행 중 바뀌지 않음)
+    private volatile String productName;
+
+    /**
+     * 데이터베이스 제품명을 반환합니다. (예: "PostgreSQL", "H2")
+     *
+     * @return 데이터베이스 제품명
+     */
+    public String getProductName() {
+        String name = productName;
+        if (name == null) {
+            try (Connection connection = dataSource.getConnection()) {
+                name = connection.getMetaData().getDatabaseProductName();
+            } catch (SQLException e) {
+                throw new IllegalStateException("데이터베이스 종류를 확인할 수 없습니다.", e);
+            }
+            productName = name;
+            log.info("데이터베이스 종류: {}", name);
+        }
+        return name;
+    }
+
+    /**
+     * PostgreSQL 여부
+     */
+    public boolean isPostgreSql() {
+        return "PostgreSQL".equalsIgnoreCase(getProductName());
+    }
+
+    /**
+     * H2 여부
+     */
+    public boolean isH2() {
+        return "H2".equalsIgnoreCase(getProductName());
+    }
+}
@@ -1,6 +1,7 @@
 package dev.gyeoul.esginsightboard.config;
 
 import io.jsonwebtoken.security.Keys;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -25,12 +26,41 @@ public class JwtConfig {
     @Value("${jwt.prefix:Bearer }")
     private String prefix;
     
+    /**
+     * 클레임 기반 인증 사용 여부
+     * true이면 요청마다 사용자 정보를 DB에서 조회하지 않고 검증된 JWT 클레임으로 인증합니다.
+     */
+    @Value("${jwt.claims-auth.enabled:true}")
+    private boolean claimsAuthEnabled;
+    
+    // 한 번 만든 키를 재사용 (시크릿이 없을 때 호출마다 다른 랜덤 키가 생성되는 문제 방지)
+    @Getter(AccessLevel.NONE)
+    private volatile SecretKey secretKey;
+    
     /**
      * JWT 시크릿 키를 반환합니다.
+     * <p>
+     * 최초 호출 시 한 번만 생성하며, 이후에는 같은 키를 반환합니다.
+     * 시크릿이 설정되지 않은 경우 애플리케이션 실행 동안 유지되는 랜덤 키를 사용합니다.
+     * </p>
      * 
      * @return JWT 시크릿 키
      */
     public SecretKey secretKey() {
+        SecretKey key = secretKey;
+        if (key == null) {
+            synchronized (this) {
+                key = secretKey;
+                if (key == null) {
+                    key = createSecretKey();
+                    secretKey = key;
+                }
+            }
+        }
+        return key;
+    }
+    
+    private SecretKey createSecretKey() {
         if (secretKeyString != null && !secretKeyString.isEmpty()) {
             try {
                 // Base64로 인코딩된 문자열인 경우 디코딩
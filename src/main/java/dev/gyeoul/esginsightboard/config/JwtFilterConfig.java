@@ -1,6 +1,10 @@
 package dev.gyeoul.esginsightboard.config;
 
 import dev.gyeoul.esginsightboard.security.JwtAuthenticationFilter;
+import dev.gyeoul.esginsightboard.security.JwtTokenVerifier;
+import dev.gyeoul.esginsightboard.security.VerifiedTokenCache;
+import dev.gyeoul.esginsightboard.service.TokenRevocationService;
+import dev.gyeoul.esginsightboard.service.TokenVersionService;
 import dev.gyeoul.esginsightboard.service.UserService;
 import dev.gyeoul.esginsightboard.util.JwtTokenUtil;
 import org.springframework.context.annotation.Bean;
@@ -14,9 +18,14 @@ public class JwtFilterConfig {
     private final UserService userService;
     private final JwtTokenUtil jwtTokenUtil;
     private final JwtConfig jwtConfig;
+    private final TokenVersionService tokenVersionService;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(userService, jwtTokenUtil, jwtConfig);
+        return new JwtAuthenticationFilter(userService, jwtTokenUtil, jwtConfig, tokenVersionService, jwtTokenVerifier, verifiedTokenCache,
+                tokenRevocationService);
     }
 } 
\ No newline at end of file
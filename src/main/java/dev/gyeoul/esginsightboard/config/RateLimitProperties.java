@@ -0,0 +1,84 @@
+package dev.gyeoul.esginsightboard.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 속도 제한 설정 (rate-limit.*)
+ * <p>
+ * 경로 그룹별로 "기간(period) 동안 최대 capacity회"를 허용하며, 토큰은 기간에 걸쳐 고르게 채워집니다.
+ * 요청은 선언 순서대로 처음 일치하는 그룹 하나에만 적용되며, 어느 그룹에도 속하지 않으면 제한하지 않습니다.
+ * </p>
+ *
+ * <pre>
+ * rate-limit:
+ *   groups:
+ *     login:
+ *       paths: [/api/users/login]
+ *       methods: [POST]
+ *       key: ip
+ *       capacity: 10
+ *       period: 1m
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 속도 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 경로 그룹 (이름 → 설정, 선언 순서 유지)
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /**
+     * 버킷을 구분하는 기준
+     */
+    public enum KeyType {
+        /** 클라이언트 IP */
+        IP,
+        /** 인증된 사용자 ID (인증되지 않은 요청은 IP) */
+        USER
+    }
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        /**
+         * 경로 패턴 ("/api/gri" 또는 "/api/gri/**" 형태)
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * HTTP 메서드 (비어 있으면 모든 메서드)
+         */
+        private List<String> methods = new ArrayList<>();
+
+        private KeyType key = KeyType.IP;
+
+        /**
+         * 기간 동안 허용되는 최대 요청 수 (순간적으로 몰려도 허용되는 최대 요청 수)
+         */
+        private int capacity = 60;
+
+        /**
+         * capacity만큼의 토큰이 모두 다시 채워지는 데 걸리는 시간
+         */
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
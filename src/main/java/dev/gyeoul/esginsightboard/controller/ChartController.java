@@ -1 +1,216 @@
+package dev.gyeoul.esginsightboard.controller;
 
+import dev.gyeoul.esginsightboard.dto.ChartDraft;
+import dev.gyeoul.esginsightboard.dto.EsgChartDataDto;
+import dev.gyeoul.esginsightboard.dto.EsgInputValueDto;
+import dev.gyeoul.esginsightboard.dto.EsgTimeSeriesPoint;
+import dev.gyeoul.esginsightboard.dto.TimeBucket;
+import dev.gyeoul.esginsightboard.dto.UserDto;
+import dev.gyeoul.esginsightboard.service.ChartService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ESG 지표 입력값(차트 원본 데이터) API 컨트롤러
+ * 사용자가 차트에 입력한 연도별 지표 값을 저장하고 조회합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/esg-inputs")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "ESG 입력값 API", description = "차트에 입력한 연도별 ESG 지표 값 저장/조회 API")
+public class ChartController {
+
+    private final ChartService chartService;
+
+    @Operation(summary = "지표 입력값 저장",
+            description = "연도별 지표 값을 저장합니다. 같은 지표/연도의 값이 이미 있으면 새로 추가하지 않고 갱신합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "저장 후 해당 지표의 연도별 최신 값 목록을 반환합니다."),
+            @ApiResponse(responseCode = "400", description = "카테고리/지표 코드 또는 연도가 올바르지 않습니다.", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음", content = @Content)
+    })
+    @PostMapping
+    public ResponseEntity<List<EsgInputValueDto>> saveInputValues(
+            HttpServletRequest request,
+            @Valid @RequestBody EsgChartDataDto chartDto) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        chartService.saveChartData(chartDto, user);
+        return ResponseEntity.ok(chartService.getLatestValues(chartDto.getIndicatorCode(), user.getId()));
+    }
+
+    @Operation(summary = "차트 입력값 임시 저장",
+            description = "작성 중인 차트 입력값을 검증 없이 임시 저장합니다. " +
+                    "사용자별로 최근 항목만 유지되며(기본 50건), 보관 기간(기본 24시간)이 지나면 삭제됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "임시 저장 항목(ID, 저장 시각 포함)을 반환합니다."),
+            @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음", content = @Content)
+    })
+    @PostMapping("/drafts")
+    public ResponseEntity<ChartDraft> saveDraft(
+            HttpServletRequest request,
+            @RequestBody EsgChartDataDto chartDto) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(chartService.saveDraft(chartDto, user));
+    }
+
+    @Operation(summary = "임시 저장 목록 조회", description = "현재 사용자의 임시 저장 항목을 저장 순서대로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "임시 저장 목록을 반환합니다. 없으면 빈 목록입니다."),
+            @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음", content = @Content)
+    })
+    @GetMapping("/drafts")
+    public ResponseEntity<List<ChartDraft>> getDrafts(HttpServletRequest request) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(chartService.getDrafts(user.getId()));
+    }
+
+    @Operation(summary = "임시 저장 항목 조회", description = "현재 사용자의 임시 저장 항목 하나를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "임시 저장 항목을 반환합니다."),
+            @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "항목이 없거나 보관 기간이 지났습니다.", content = @Content)
+    })
+    @GetMapping("/drafts/{draftId}")
+    public ResponseEntity<ChartDraft> getDraft(
+            HttpServletRequest request,
+            @Parameter(description = "임시 저장 ID", required = true)
+            @PathVariable long draftId) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(chartService.getDraft(user.getId(), draftId));
+    }
+
+    @Operation(summary = "임시 저장 항목 삭제", description = "현재 사용자의 임시 저장 항목 하나를 삭제합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "삭제되었습니다."),
+            @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "항목이 없습니다.", content = @Content)
+    })
+    @DeleteMapping("/drafts/{draftId}")
+    public ResponseEntity<Void> deleteDraft(
+            HttpServletRequest request,
+            @Parameter(description = "임시 저장 ID", required = true)
+            @PathVariable long draftId) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        chartService.deleteDraft(user.getId(), draftId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "임시 저장 전체 삭제", description = "현재 사용자의 임시 저장 항목을 모두 삭제합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "삭제한 항목 수를 반환합니다."),
+            @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음", content = @Content)
+    })
+    @DeleteMapping("/drafts")
+    public ResponseEntity<Map<String, Object>> deleteDrafts(HttpServletRequest request) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(Map.of("success", true, "deleted", chartService.deleteDrafts(user.getId())));
+    }
+
+    @Operation(summary = "지표 시계열 집계 조회",
+            description = "여러 지표의 연도/분기/월별 합계, 평균, 최솟값, 최댓값을 한 번에 조회합니다. " +
+                    "보고 기간 시작일 기준으로 구간을 나누며, 숫자형 값만 집계합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "지표 코드, 구간 순으로 정렬된 집계값 목록을 반환합니다. 값이 없는 구간은 제외됩니다."),
+            @ApiResponse(responseCode = "400", description = "지표 코드가 없거나 너무 많음, 또는 시작일이 종료일보다 이후임", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음", content = @Content)
+    })
+    @GetMapping("/time-series")
+    public ResponseEntity<List<EsgTimeSeriesPoint>> getTimeSeries(
+            HttpServletRequest request,
+            @Parameter(description = "지표 코드 목록 (최대 50개)", required = true, example = "GRI 305-1,GRI 302-1")
+            @RequestParam List<String> indicatorCodes,
+            @Parameter(description = "보고 기간 시작일 하한 (yyyy-MM-dd, 포함)", required = true, example = "2020-01-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "보고 기간 시작일 상한 (yyyy-MM-dd, 포함)", required = true, example = "2024-12-31")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "집계 단위 (YEAR, QUARTER, MONTH)", example = "YEAR")
+            @RequestParam(defaultValue = "YEAR") TimeBucket bucket,
+            @Parameter(description = "true이면 소속 회사 전체 사용자의 값을 집계")
+            @RequestParam(defaultValue = "false") boolean company) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(chartService.getTimeSeries(indicatorCodes, user, company, from, to, bucket));
+    }
+
+    @Operation(summary = "지표 입력값 페이지 조회",
+            description = "현재 사용자가 입력한 지표 값을 보고 기간 최신순으로 페이지 단위로 조회합니다. " +
+                    "page/size 파라미터로 페이지를 지정하며, 정렬은 보고 기간 시작일 내림차순으로 고정됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "입력값 페이지를 반환합니다."),
+            @ApiResponse(responseCode = "400", description = "페이지 크기가 최대값(200)을 초과함", content = @Content),
+            @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음", content = @Content)
+    })
+    @GetMapping("/{indicatorCode}/values")
+    public ResponseEntity<Page<EsgInputValueDto>> getValuesPage(
+            HttpServletRequest request,
+            @Parameter(description = "지표 코드", required = true, example = "GRI 305-1")
+            @PathVariable String indicatorCode,
+            @ParameterObject @PageableDefault(size = 50) Pageable pageable) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(chartService.getValuesPage(indicatorCode, user.getId(), pageable));
+    }
+
+    @Operation(summary = "지표 입력값 조회",
+            description = "현재 사용자가 입력한 지표의 보고 기간(연도)별 최신 값을 기간 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "연도별 최신 값 목록을 반환합니다. 입력값이 없으면 빈 목록입니다."),
+            @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음", content = @Content)
+    })
+    @GetMapping("/{indicatorCode}")
+    public ResponseEntity<List<EsgInputValueDto>> getLatestValues(
+            HttpServletRequest request,
+            @Parameter(description = "지표 코드", required = true, example = "GRI 302-1")
+            @PathVariable String indicatorCode) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(chartService.getLatestValues(indicatorCode, user.getId()));
+    }
+}
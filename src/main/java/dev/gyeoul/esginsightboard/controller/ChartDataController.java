@@ -1,17 +1,26 @@
 package dev.gyeoul.esginsightboard.controller;
 
 import dev.gyeoul.esginsightboard.dto.ChartDataDto;
+import dev.gyeoul.esginsightboard.dto.ChartDataSearchCondition;
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
+import dev.gyeoul.esginsightboard.dto.SearchHit;
 import dev.gyeoul.esginsightboard.dto.UserDto;
 import dev.gyeoul.esginsightboard.entity.User;
 import dev.gyeoul.esginsightboard.service.ChartDataService;
 import dev.gyeoul.esginsightboard.repository.UserRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+// 차트 조회 응답은 Accept: application/vnd.esg.chart-columnar 요청 시 열 지향 바이너리로 전송 (ChartColumnarCodec)
 @RestController
 @RequestMapping("/api/charts")
 @RequiredArgsConstructor
@@ -36,47 +45,130 @@ public class ChartDataController {
         return ResponseEntity.ok(savedChart);
     }
 
-    // ✅ 특정 ID 리스트 또는 전체 차트 조회
+    // ✅ 특정 ID 리스트(내 차트만) 또는 내 차트 전체 조회
+    // 조회 API는 차트 유형/칸 수에 맞게 시리즈를 다운샘플링하여 반환 (raw=true이면 원본, 편집 화면용)
     @GetMapping
-    public ResponseEntity<List<ChartDataDto>> getCharts(@RequestParam(required = false) List<Long> ids) {
+    public ResponseEntity<List<ChartDataDto>> getCharts(HttpServletRequest request,
+                                                        @RequestParam(required = false) List<Long> ids,
+                                                        @RequestParam(defaultValue = "false") boolean raw) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
         if (ids == null || ids.isEmpty()) {
-            return ResponseEntity.ok(chartDataService.getAllChartData()); // 모든 차트 조회
+            return ResponseEntity.ok(chartDataService.getMyChartData(userDto.getId(), raw)); // 내 차트 전체 조회
         } else {
-            return ResponseEntity.ok(chartDataService.getChartsByIds(ids)); // 특정 ID 차트 조회
+            return ResponseEntity.ok(chartDataService.getChartsByIds(userDto.getId(), ids, raw)); // 특정 ID의 내 차트 조회
+        }
+    }
+
+    // ✅ 내(company=true이면 소속 회사) 차트 조건 검색 + 페이지 (예: /api/charts/search?category=E&page=0&size=20)
+    @GetMapping("/search")
+    public ResponseEntity<Page<ChartDataDto>> searchCharts(
+            HttpServletRequest request,
+            @ParameterObject @ModelAttribute ChartDataSearchCondition condition,
+            @RequestParam(defaultValue = "false") boolean company,
+            @RequestParam(defaultValue = "false") boolean raw,
+            @ParameterObject @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(chartDataService.searchCharts(condition, userDto, company, pageable, raw));
+    }
+
+    // ✅ 제목/설명 전문 검색, 관련도 순 페이지 (예: /api/charts/search/text?q=온실가스&page=0&size=20)
+    @GetMapping("/search/text")
+    public ResponseEntity<Page<SearchHit<ChartDataDto>>> searchChartsByText(
+            HttpServletRequest request,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "false") boolean raw,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
         }
+        return ResponseEntity.ok(chartDataService.searchChartsByText(q, userDto, pageable, raw));
     }
 
-    // ✅ 제목으로 차트 조회
+    // ✅ 제목으로 내 차트 조회
     @GetMapping("/title/{title}")
-    public ResponseEntity<List<ChartDataDto>> getChartsByTitle(@PathVariable String title) {
-        return ResponseEntity.ok(chartDataService.getChartDataByTitle(title));
+    public ResponseEntity<List<ChartDataDto>> getChartsByTitle(HttpServletRequest request, @PathVariable String title,
+            @RequestParam(defaultValue = "false") boolean raw) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(chartDataService.getChartDataByTitle(userDto.getId(), title, raw));
     }
 
-    // ✅ 설명에 특정 키워드 포함된 차트 조회
+    // ✅ 설명에 특정 키워드 포함된 내 차트 조회
     @GetMapping("/description/{keyword}")
-    public ResponseEntity<List<ChartDataDto>> getChartsByDescription(@PathVariable String keyword) {
-        return ResponseEntity.ok(chartDataService.getChartDataByDescription(keyword));
+    public ResponseEntity<List<ChartDataDto>> getChartsByDescription(HttpServletRequest request, @PathVariable String keyword,
+            @RequestParam(defaultValue = "false") boolean raw) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(chartDataService.getChartDataByDescription(userDto.getId(), keyword, raw));
     }
 
-    // ✅ ESG 카테고리별 차트 조회 (E, S, G)
+    // ✅ ESG 카테고리별 내 차트 조회 (E, S, G)
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<ChartDataDto>> getChartsByCategory(@PathVariable String category) {
-        return ResponseEntity.ok(chartDataService.getChartDataByCategory(category));
+    public ResponseEntity<List<ChartDataDto>> getChartsByCategory(HttpServletRequest request, @PathVariable String category,
+            @RequestParam(defaultValue = "false") boolean raw) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(chartDataService.getChartDataByCategory(userDto.getId(), category, raw));
     }
 
-    // ✅ 특정 세부 지표(indicator)별 차트 조회
+    // ✅ 특정 세부 지표(indicator)별 내 차트 조회
     @GetMapping("/indicator/{indicator}")
-    public ResponseEntity<List<ChartDataDto>> getChartsByIndicator(@PathVariable String indicator) {
-        return ResponseEntity.ok(chartDataService.getChartDataByIndicator(indicator));
+    public ResponseEntity<List<ChartDataDto>> getChartsByIndicator(HttpServletRequest request, @PathVariable String indicator,
+            @RequestParam(defaultValue = "false") boolean raw) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(chartDataService.getChartDataByIndicator(userDto.getId(), indicator, raw));
     }
 
-    // ✅ 특정 차트 칸 개수로 조회
+    // ✅ 특정 차트 칸 개수로 내 차트 조회
     @GetMapping("/grid/{chartGrid}")
-    public ResponseEntity<List<ChartDataDto>> getChartsByChartGrid(@PathVariable Integer chartGrid) {
-        return ResponseEntity.ok(chartDataService.getChartDataByChartGrid(chartGrid));
+    public ResponseEntity<List<ChartDataDto>> getChartsByChartGrid(HttpServletRequest request, @PathVariable Integer chartGrid,
+            @RequestParam(defaultValue = "false") boolean raw) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(chartDataService.getChartDataByChartGrid(userDto.getId(), chartGrid, raw));
+    }
+
+    // ✅ 데이터(JSON) 포함 조건으로 내 차트 검색 (예: contains=[{"label":"2023"}])
+    @GetMapping("/search/data")
+    public ResponseEntity<List<ChartDataDto>> searchChartsByData(HttpServletRequest request, @RequestParam String contains,
+                                                                 @RequestParam(defaultValue = "false") boolean raw) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(chartDataService.searchChartDataByData(contains, userDto, raw));
     }
 
-    // ✅ 차트 데이터 업데이트
+    // ✅ 차트 시리즈 하나만 수정
+    @PatchMapping("/{id}/data/{index}")
+    public ResponseEntity<ChartDataDto> replaceSeries(HttpServletRequest request, @PathVariable Long id,
+                                                      @PathVariable int index, @RequestBody ChartSeriesPoint series) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(chartDataService.replaceSeries(id, index, series, userDto));
+    }
+
+    // ✅ 내 차트 데이터 업데이트 (다른 사용자의 차트이면 404)
     @PutMapping("/{id}")
     public ResponseEntity<ChartDataDto> updateChart(HttpServletRequest request, @PathVariable Long id, @RequestBody ChartDataDto dto) {
         UserDto userDto = (UserDto) request.getAttribute("user");
@@ -92,10 +184,14 @@ public class ChartDataController {
         return ResponseEntity.ok(updatedChart);
     }
 
-    // ✅ 차트 데이터 삭제
+    // ✅ 내 차트 데이터 삭제 (다른 사용자의 차트이면 404)
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteChart(@PathVariable Long id) {
-        chartDataService.deleteChartData(id);
+    public ResponseEntity<Void> deleteChart(HttpServletRequest request, @PathVariable Long id) {
+        UserDto userDto = (UserDto) request.getAttribute("user");
+        if (userDto == null) {
+            return ResponseEntity.status(401).build();
+        }
+        chartDataService.deleteChartData(id, userDto);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
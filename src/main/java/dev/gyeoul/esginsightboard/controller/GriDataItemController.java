@@ -1,6 +1,9 @@
 package dev.gyeoul.esginsightboard.controller;
 
 import dev.gyeoul.esginsightboard.dto.GriDataItemDto;
+import dev.gyeoul.esginsightboard.dto.GriDataItemSearchCondition;
+import dev.gyeoul.esginsightboard.dto.SearchHit;
+import dev.gyeoul.esginsightboard.service.GriDataItemPartitionService;
 import dev.gyeoul.esginsightboard.service.GriDataItemService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,6 +14,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/gri")
@@ -27,16 +36,58 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class GriDataItemController {
 
+    private static final String FIELDS_DESCRIPTION = "응답에 포함할 필드 목록 (쉼표 구분, 예: id,disclosureCode,disclosureTitle,numericValue). "
+            + "disclosureValue, description을 포함하지 않으면 긴 텍스트 컬럼을 조회하지 않습니다.";
+
     private final GriDataItemService griDataItemService;
+    private final GriDataItemPartitionService griDataItemPartitionService;
 
     @Operation(summary = "모든 GRI 데이터 항목 조회", description = "데이터베이스에 저장된 모든 GRI 데이터 항목을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "성공적으로 GRI 데이터 항목 목록을 반환합니다.")
     @GetMapping
-    public ResponseEntity<List<GriDataItemDto>> getAllGriDataItems() {
+    public ResponseEntity<List<?>> getAllGriDataItems(
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) Set<String> fields) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(griDataItemService.getAllGriDataItems(fields));
+        }
         List<GriDataItemDto> griDataItems = griDataItemService.getAllGriDataItems();
         return ResponseEntity.ok(griDataItems);
     }
 
+    @Operation(summary = "GRI 데이터 항목 복합 검색",
+            description = "카테고리, 표준 코드, 공시 코드, 검증 상태, 회사, 보고 기간 조건을 조합하여 한 번의 쿼리로 조회합니다. " +
+                    "목록형 조건은 쉼표로 여러 값을 지정할 수 있으며, page/size/sort 파라미터로 페이지와 정렬을 지정합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 조건과 일치하는 GRI 데이터 항목 페이지를 반환합니다."),
+            @ApiResponse(responseCode = "400", description = "정렬할 수 없는 필드를 지정했습니다.", content = @Content)
+    })
+    @GetMapping("/search")
+    public ResponseEntity<Page<GriDataItemDto>> searchGriDataItems(
+            @ParameterObject @ModelAttribute GriDataItemSearchCondition condition,
+            @ParameterObject @PageableDefault(size = 50, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+        Page<GriDataItemDto> result = griDataItemService.searchGriDataItems(condition, pageable);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "GRI 데이터 항목 전문 검색",
+            description = "공시 제목, 설명, 공시 값에서 검색어를 찾아 관련도 순으로 조회합니다. " +
+                    "검색어는 2글자 단위로 나누어 비교하므로 붙여 쓴 복합어 안의 단어도 찾을 수 있으며, " +
+                    "공시 제목에서 찾은 항목이 설명/공시 값에서 찾은 항목보다 앞에 표시됩니다. page/size 파라미터로 페이지를 지정합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "관련도 점수와 함께 검색된 GRI 데이터 항목 페이지를 반환합니다."),
+            @ApiResponse(responseCode = "400", description = "검색어가 비어 있거나 페이지 크기가 최대값(100)을 초과함", content = @Content)
+    })
+    @GetMapping("/search/text")
+    public ResponseEntity<Page<SearchHit<GriDataItemDto>>> searchGriDataItemsByText(
+            @Parameter(description = "검색어", required = true, example = "온실가스 배출")
+            @RequestParam String q,
+            @Parameter(description = "회사 ID (지정하지 않으면 전체)")
+            @RequestParam(required = false) Long companyId,
+            @ParameterObject @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(griDataItemService.searchGriDataItemsByText(q, companyId, pageable));
+    }
+
     @Operation(summary = "ID로 GRI 데이터 항목 조회", description = "특정 ID의 GRI 데이터 항목을 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "GRI 데이터 항목을 성공적으로 찾았습니다."),
@@ -54,10 +105,15 @@ public class GriDataItemController {
     @Operation(summary = "카테고리별 GRI 데이터 항목 조회", description = "Environmental, Social, Governance 카테고리별 GRI 데이터 항목을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "카테고리와 일치하는 GRI 데이터 항목 목록을 반환합니다.")
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<GriDataItemDto>> getGriDataItemsByCategory(
+    public ResponseEntity<List<?>> getGriDataItemsByCategory(
             @Parameter(description = "GRI 데이터 항목 카테고리 (Environmental, Social, Governance)", required = true, 
                        schema = @Schema(allowableValues = {"Environmental", "Social", "Governance"}))
-            @PathVariable String category) {
+            @PathVariable String category,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) Set<String> fields) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(griDataItemService.getGriDataItemsByCategory(category, fields));
+        }
         List<GriDataItemDto> griDataItems = griDataItemService.getGriDataItemsByCategory(category);
         return ResponseEntity.ok(griDataItems);
     }
@@ -65,9 +121,14 @@ public class GriDataItemController {
     @Operation(summary = "GRI 표준 코드별 데이터 항목 조회", description = "특정 GRI 표준 코드(예: GRI 302, GRI 305)에 해당하는 데이터 항목을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "GRI 표준 코드와 일치하는 데이터 항목 목록을 반환합니다.")
     @GetMapping("/standard/{standardCode}")
-    public ResponseEntity<List<GriDataItemDto>> getGriDataItemsByStandardCode(
+    public ResponseEntity<List<?>> getGriDataItemsByStandardCode(
             @Parameter(description = "GRI 표준 코드 (예: GRI 302, GRI 305)", required = true)
-            @PathVariable String standardCode) {
+            @PathVariable String standardCode,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) Set<String> fields) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(griDataItemService.getGriDataItemsByStandardCode(standardCode, fields));
+        }
         List<GriDataItemDto> griDataItems = griDataItemService.getGriDataItemsByStandardCode(standardCode);
         return ResponseEntity.ok(griDataItems);
     }
@@ -75,9 +136,14 @@ public class GriDataItemController {
     @Operation(summary = "공시 코드별 데이터 항목 조회", description = "특정 공시 코드(예: 302-1, 305-1)에 해당하는 데이터 항목을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "공시 코드와 일치하는 데이터 항목 목록을 반환합니다.")
     @GetMapping("/disclosure/{disclosureCode}")
-    public ResponseEntity<List<GriDataItemDto>> getGriDataItemsByDisclosureCode(
+    public ResponseEntity<List<?>> getGriDataItemsByDisclosureCode(
             @Parameter(description = "공시 코드 (예: 302-1, 305-1)", required = true)
-            @PathVariable String disclosureCode) {
+            @PathVariable String disclosureCode,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) Set<String> fields) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(griDataItemService.getGriDataItemsByDisclosureCode(disclosureCode, fields));
+        }
         List<GriDataItemDto> griDataItems = griDataItemService.getGriDataItemsByDisclosureCode(disclosureCode);
         return ResponseEntity.ok(griDataItems);
     }
@@ -85,21 +151,57 @@ public class GriDataItemController {
     @Operation(summary = "보고 기간 내 데이터 항목 조회", description = "특정 보고 기간 내의 데이터 항목을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "해당 보고 기간 내의 데이터 항목 목록을 반환합니다.")
     @GetMapping("/period")
-    public ResponseEntity<List<GriDataItemDto>> getGriDataItemsByReportingPeriod(
+    public ResponseEntity<List<?>> getGriDataItemsByReportingPeriod(
             @Parameter(description = "보고 기간 시작일 (형식: yyyy-MM-dd)", required = true)
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "보고 기간 종료일 (형식: yyyy-MM-dd)", required = true)
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) Set<String> fields) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(griDataItemService.getGriDataItemsByReportingPeriod(startDate, endDate, fields));
+        }
         List<GriDataItemDto> griDataItems = griDataItemService.getGriDataItemsByReportingPeriod(startDate, endDate);
         return ResponseEntity.ok(griDataItems);
     }
 
+    @Operation(summary = "보고 연도별 데이터 항목 조회",
+            description = "보고 시작일이 지정한 연도 구간에 속하는 데이터 항목을 조회합니다. " +
+                    "PostgreSQL에서는 해당 연도의 파티션만 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "해당 연도에 시작하는 보고 기간의 데이터 항목 목록을 반환합니다."),
+            @ApiResponse(responseCode = "400", description = "시작 연도가 종료 연도보다 이후입니다.", content = @Content)
+    })
+    @GetMapping("/reporting-year")
+    public ResponseEntity<List<GriDataItemDto>> getGriDataItemsByReportingYears(
+            @Parameter(description = "시작 연도 (예: 2023)", required = true)
+            @RequestParam int fromYear,
+            @Parameter(description = "종료 연도 (생략 시 시작 연도와 동일)")
+            @RequestParam(required = false) Integer toYear) {
+        List<GriDataItemDto> griDataItems = griDataItemService.getGriDataItemsByReportingYears(
+                fromYear, toYear != null ? toYear : fromYear);
+        return ResponseEntity.ok(griDataItems);
+    }
+
+    @Operation(summary = "GRI 데이터 연도 파티션 목록 조회",
+            description = "PostgreSQL에서 gri_data_items에 연결된 보고 연도 파티션 목록을 조회합니다. 다른 DB에서는 빈 목록을 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "연도 목록을 오름차순으로 반환합니다.")
+    @GetMapping("/partitions")
+    public ResponseEntity<Set<Integer>> getPartitionYears() {
+        return ResponseEntity.ok(griDataItemPartitionService.getPartitionYears());
+    }
+
     @Operation(summary = "검증 상태별 데이터 항목 조회", description = "특정 검증 상태(미검증, 검증중, 검증완료 등)의 데이터 항목을 조회합니다.")
     @ApiResponse(responseCode = "200", description = "해당 검증 상태의 데이터 항목 목록을 반환합니다.")
     @GetMapping("/verification/{status}")
-    public ResponseEntity<List<GriDataItemDto>> getGriDataItemsByVerificationStatus(
+    public ResponseEntity<List<?>> getGriDataItemsByVerificationStatus(
             @Parameter(description = "검증 상태 (미검증, 검증중, 검증완료 등)", required = true)
-            @PathVariable String status) {
+            @PathVariable String status,
+            @Parameter(description = FIELDS_DESCRIPTION)
+            @RequestParam(required = false) Set<String> fields) {
+        if (fields != null && !fields.isEmpty()) {
+            return ResponseEntity.ok(griDataItemService.getGriDataItemsByVerificationStatus(status, fields));
+        }
         List<GriDataItemDto> griDataItems = griDataItemService.getGriDataItemsByVerificationStatus(status);
         return ResponseEntity.ok(griDataItems);
     }
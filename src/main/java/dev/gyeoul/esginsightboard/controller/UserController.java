@@ -1,8 +1,12 @@
 package dev.gyeoul.esginsightboard.controller;
 
 import dev.gyeoul.esginsightboard.dto.*;
+import dev.gyeoul.esginsightboard.security.JwtAuthenticationFilter;
+import dev.gyeoul.esginsightboard.service.TokenRevocationService;
+import dev.gyeoul.esginsightboard.service.TokenVersionService;
 import dev.gyeoul.esginsightboard.service.UserService;
 import dev.gyeoul.esginsightboard.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 사용자 관리 관련 API 컨트롤러
@@ -36,6 +41,8 @@ public class UserController {
 
     private final UserService userService;
     private final JwtTokenUtil jwtTokenUtil;
+    private final TokenVersionService tokenVersionService;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * 회원가입 API
@@ -73,11 +80,12 @@ public class UserController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "로그인 성공", 
             content = @Content(schema = @Schema(implementation = LoginResponse.class))),
-        @ApiResponse(responseCode = "401", description = "이메일 또는 비밀번호가 일치하지 않음")
+        @ApiResponse(responseCode = "401", description = "이메일 또는 비밀번호가 일치하지 않음"),
+        @ApiResponse(responseCode = "429", description = "로그인 요청이 많아 잠시 후 다시 시도해야 함 (Retry-After 헤더 참고)")
     })
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
-        LoginResponse response = userService.login(request);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@RequestBody LoginRequest request) {
+        // 비밀번호 비교는 해싱 전용 스레드에서 수행되며, 그동안 요청 스레드는 반환됨
+        return userService.login(request).thenApply(ResponseEntity::ok);
     }
 
     /**
@@ -100,12 +108,77 @@ public class UserController {
     public ResponseEntity<UserDto> getMyInfo(HttpServletRequest request) {
         UserDto user = (UserDto) request.getAttribute("user");
         if (user != null) {
-            return ResponseEntity.ok(user);
+            // 클레임 기반 인증 시 요청 사용자 정보에는 토큰 클레임만 있으므로 전체 프로필을 조회
+            UserDto profile = user.getId() != null
+                    ? userService.getUserById(user.getId()).orElse(user)
+                    : user;
+            return ResponseEntity.ok(profile);
         } else {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
     }
     
+    /**
+     * 로그아웃 API
+     * 현재 요청에 사용된 토큰을 폐기합니다. 폐기된 토큰은 만료 전이라도 더 이상 인증에 사용할 수 없습니다.
+     * 
+     * @param request HTTP 요청 객체 (JWT 토큰 검증 후 토큰 정보가 설정됨)
+     * @return 처리 결과
+     */
+    @PostMapping("/logout")
+    @Operation(
+        summary = "로그아웃", 
+        description = "현재 사용 중인 JWT 토큰을 폐기합니다."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "토큰 폐기 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음")
+    })
+    public ResponseEntity<Map<String, Object>> logout(HttpServletRequest request) {
+        String token = (String) request.getAttribute(JwtAuthenticationFilter.TOKEN_ATTRIBUTE);
+        Claims claims = (Claims) request.getAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE);
+        if (token == null || claims == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        tokenRevocationService.revoke(token, claims);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "로그아웃되었습니다");
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 모든 기기에서 로그아웃 API
+     * 사용자의 토큰 버전을 올려 지금까지 발급된 모든 토큰을 무효화합니다.
+     * 
+     * @param request HTTP 요청 객체 (JWT 토큰 검증 후 사용자 정보가 설정됨)
+     * @return 처리 결과
+     */
+    @PostMapping("/logout-all")
+    @Operation(
+        summary = "모든 기기에서 로그아웃", 
+        description = "현재 사용자에게 발급된 모든 JWT 토큰을 무효화합니다. 이후 다시 로그인해야 합니다."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "모든 토큰 무효화 성공"),
+        @ApiResponse(responseCode = "401", description = "인증 실패 또는 토큰 없음")
+    })
+    public ResponseEntity<Map<String, Object>> logoutAll(HttpServletRequest request) {
+        UserDto user = (UserDto) request.getAttribute("user");
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        tokenVersionService.revokeAllTokens(user.getId());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "모든 기기에서 로그아웃되었습니다");
+        return ResponseEntity.ok(response);
+    }
+    
     /**
      * API 테스트를 위한 테스트 토큰 발급 API
      * 
@@ -1,7 +1,5 @@
 package dev.gyeoul.esginsightboard.dto;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.gyeoul.esginsightboard.entity.ChartData;
 import dev.gyeoul.esginsightboard.entity.User;
 import lombok.Getter;
@@ -9,26 +7,25 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
-import java.util.Map;
 
 @Getter
 @Setter
 @NoArgsConstructor
 public class ChartDataDto {
+    private Long id;
     private Long userId;  // ✅ User 객체 X → userId (Long)만 저장
     private String title;
     private String description;
     private String category;
     private String indicator;
     private Integer chartGrid;
-    private List<Map<String, Object>> data;
+    private List<ChartSeriesPoint> data;
     private String chartType;
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     // ✅ 엔티티 → DTO 변환
     public static ChartDataDto fromEntity(ChartData chartData) {
         ChartDataDto dto = new ChartDataDto();
+        dto.setId(chartData.getId());
         dto.setUserId(chartData.getUser().getId());  // ✅ User → userId로 변환
         dto.setTitle(chartData.getTitle());
         dto.setDescription(chartData.getDescription());
@@ -36,25 +33,35 @@ public class ChartDataDto {
         dto.setIndicator(chartData.getIndicator());
         dto.setChartGrid(chartData.getChartGrid());
         dto.setChartType(chartData.getChartType());
+        dto.setData(chartData.getData()); // JSON 컬럼은 Hibernate가 이미 변환하므로 다시 파싱하지 않음
+
+        return dto;
+    }
 
-        try {
-            dto.setData(objectMapper.readValue(chartData.getData(), new TypeReference<>() {}));
-        } catch (Exception e) {
-            dto.setData(null);
-        }
+    // ✅ 엔티티 → DTO 변환 (다운샘플링 등으로 가공한 데이터 사용)
+    public static ChartDataDto fromEntity(ChartData chartData, List<ChartSeriesPoint> data) {
+        ChartDataDto dto = fromEntity(chartData);
+        dto.setData(data);
+        return dto;
+    }
 
+    // ✅ 헤더 + 캐시된 데이터 → DTO 변환 (JSON 파싱 없음)
+    public static ChartDataDto fromHeader(ChartDataHeader header, List<ChartSeriesPoint> data) {
+        ChartDataDto dto = new ChartDataDto();
+        dto.setId(header.id());
+        dto.setUserId(header.userId());
+        dto.setTitle(header.title());
+        dto.setDescription(header.description());
+        dto.setCategory(header.category());
+        dto.setIndicator(header.indicator());
+        dto.setChartGrid(header.chartGrid());
+        dto.setChartType(header.chartType());
+        dto.setData(data);
         return dto;
     }
 
     // ✅ DTO → 엔티티 변환
     public ChartData toEntity(User user) {  // ✅ User 객체를 직접 받음
-        String jsonData;
-        try {
-            jsonData = objectMapper.writeValueAsString(this.data);
-        } catch (Exception e) {
-            jsonData = "[]"; // Default empty array
-        }
-
         return ChartData.builder()
                 .user(user)  // ✅ User 객체 설정
                 .title(this.title)
@@ -62,7 +69,7 @@ public class ChartDataDto {
                 .category(this.category)
                 .indicator(this.indicator)
                 .chartGrid(this.chartGrid)
-                .data(jsonData)
+                .data(this.data) // null이면 빈 목록
                 .chartType(this.chartType)
                 .build();
     }
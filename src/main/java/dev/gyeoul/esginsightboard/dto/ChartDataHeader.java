@@ -0,0 +1,13 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 차트 데이터(ChartData)에서 JSON 데이터(data)를 제외한 항목
+ * <p>
+ * 목록 조회 시 이 항목만 먼저 읽고, data는 {@code (id, updatedAt)} 기준으로 캐시된 값을 사용합니다.
+ * </p>
+ */
+public record ChartDataHeader(Long id, Long userId, String title, String description, String category,
+                              String indicator, String chartType, Integer chartGrid, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,53 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 차트 검색 조건 DTO
+ * <p>
+ * 모든 조건은 선택 사항이며, 값이 있는 조건만 AND로 결합합니다.
+ * 검색 범위(본인 또는 소속 회사)는 조건과 별도로 지정하며, 소유자 조건이 항상 먼저 적용됩니다.
+ * <pre>
+ * GET /api/charts/search?category=E&amp;chartType=Line&amp;page=0&amp;size=20
+ * </pre>
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChartDataSearchCondition {
+
+    /**
+     * ESG 카테고리 (E, S, G)
+     */
+    private String category;
+
+    /**
+     * 세부 지표
+     */
+    private String indicator;
+
+    /**
+     * 차트 유형 (Bar, Line, Area, Pie, Donut)
+     */
+    private String chartType;
+
+    /**
+     * 차트 칸 (1~4)
+     */
+    private Integer chartGrid;
+
+    /**
+     * 제목 (정확히 일치)
+     */
+    private String title;
+
+    /**
+     * 설명에 포함된 키워드
+     */
+    private String keyword;
+}
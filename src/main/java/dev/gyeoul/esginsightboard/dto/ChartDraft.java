@@ -0,0 +1,14 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import java.time.Instant;
+
+/**
+ * 차트 임시 저장 항목
+ *
+ * @param id 임시 저장 ID (저장 순서대로 증가)
+ * @param userId 작성자 ID
+ * @param savedAt 저장 시각
+ * @param chart 임시 저장한 차트 입력값
+ */
+public record ChartDraft(long id, Long userId, Instant savedAt, EsgChartDataDto chart) {
+}
@@ -0,0 +1,9 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import java.util.List;
+
+/**
+ * 차트 ID와 JSON 데이터(data)
+ */
+public record ChartPayload(Long id, List<ChartSeriesPoint> data) {
+}
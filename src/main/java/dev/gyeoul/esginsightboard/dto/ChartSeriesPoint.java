@@ -0,0 +1,99 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 차트 데이터(ChartData.data)의 시리즈 항목 하나
+ * <p>
+ * 자주 쓰는 label(문자열)과 value(숫자)는 필드로 두고, 그 외 속성은 extra에 그대로 보관하여
+ * 클라이언트가 보낸 JSON을 잃지 않고 다시 내보냅니다. (label이 문자열이 아니거나 value가 숫자가 아니면 extra에 보관)
+ * 항목마다 LinkedHashMap을 두던 방식보다 메모리를 적게 사용하며, 역직렬화 이후에는 변경하지 않으므로
+ * 캐시(ChartPayloadCache)에서 여러 요청이 공유해도 안전합니다.
+ * </p>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "차트 시리즈 항목 (label, value 외 속성도 그대로 저장)")
+public final class ChartSeriesPoint {
+
+    @Schema(description = "항목 이름", example = "2023")
+    private final String label;
+
+    @Schema(description = "값", example = "1520.5")
+    private final Double value;
+
+    // label, value 외 속성 (없으면 null, 역직렬화 중에만 추가)
+    private Map<String, Object> extra;
+
+    @JsonCreator
+    public ChartSeriesPoint(@JsonProperty("label") Object label, @JsonProperty("value") Object value) {
+        if (label == null || label instanceof String) {
+            this.label = (String) label;
+        } else {
+            this.label = null;
+            putExtra("label", label);
+        }
+        if (value == null || value instanceof Number) {
+            this.value = value != null ? ((Number) value).doubleValue() : null;
+        } else {
+            this.value = null;
+            putExtra("value", value);
+        }
+    }
+
+    public static ChartSeriesPoint of(String label, Double value) {
+        return new ChartSeriesPoint(label, value);
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Double getValue() {
+        return value;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getExtra() {
+        return extra != null ? Collections.unmodifiableMap(extra) : Collections.emptyMap();
+    }
+
+    @JsonAnySetter
+    void putExtra(String name, Object extraValue) {
+        if (extra == null) {
+            extra = new LinkedHashMap<>(4);
+        }
+        extra.put(name, extraValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ChartSeriesPoint that)) {
+            return false;
+        }
+        return Objects.equals(label, that.label) && Objects.equals(value, that.value)
+                && Objects.equals(getExtra(), that.getExtra());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(label, value, getExtra());
+    }
+
+    @Override
+    public String toString() {
+        return "ChartSeriesPoint{label=" + label + ", value=" + value + (extra != null ? ", extra=" + extra : "") + '}';
+    }
+}
@@ -0,0 +1,49 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보고 기간별 ESG 입력값 DTO
+ * <p>
+ * EsgInputValueRepository의 JPQL 생성자 표현식으로 바로 만들어지므로,
+ * 필드 순서를 바꾸면 해당 쿼리도 함께 수정해야 합니다.
+ * </p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "보고 기간별 ESG 입력값")
+public class EsgInputValueDto {
+
+    @Schema(description = "입력값 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "지표 코드", example = "GRI 302-1")
+    private String indicatorCode;
+
+    @Schema(description = "보고 기간 시작일", example = "2024-01-01")
+    private LocalDate reportingPeriodStart;
+
+    @Schema(description = "보고 기간 종료일", example = "2024-12-31")
+    private LocalDate reportingPeriodEnd;
+
+    @Schema(description = "숫자형 값 (숫자가 아니면 null)", example = "123.45")
+    private Double numericValue;
+
+    @Schema(description = "입력한 원래 값", example = "123.45")
+    private String textValue;
+
+    @Schema(description = "단위", example = "kWh")
+    private String unit;
+
+    @Schema(description = "마지막 저장 일시")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,47 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 지표별 시계열 집계값 (한 구간)
+ * <p>
+ * 숫자형 값(numericValue)만 집계하며, 구간 내 숫자형 값이 없으면 합계/평균/최소/최대는 null입니다.
+ * </p>
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "지표별 시계열 집계값")
+public class EsgTimeSeriesPoint {
+
+    @Schema(description = "지표 코드", example = "GRI 305-1")
+    private String indicatorCode;
+
+    @Schema(description = "구간 시작일", example = "2024-01-01")
+    private LocalDate periodStart;
+
+    @Schema(description = "구간 종료일", example = "2024-03-31")
+    private LocalDate periodEnd;
+
+    @Schema(description = "합계")
+    private Double sum;
+
+    @Schema(description = "평균")
+    private Double avg;
+
+    @Schema(description = "최솟값")
+    private Double min;
+
+    @Schema(description = "최댓값")
+    private Double max;
+
+    @Schema(description = "집계에 포함된 숫자형 값 개수", example = "3")
+    private long count;
+}
@@ -8,6 +8,11 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * GRI(Global Reporting Initiative) 데이터 항목에 대한 DTO(Data Transfer Object)
@@ -58,6 +63,42 @@ public class GriDataItemDto {
      */
     public static final String CATEGORY_GOVERNANCE = "G";
 
+    /**
+     * 길이가 긴 텍스트 필드 목록
+     * <p>
+     * 필드 선택(fields) 조회 시 이 필드가 요청된 경우에만 엔티티 전체를 조회하고,
+     * 그렇지 않으면 {@link GriDataItemSummary} 프로젝션으로 조회합니다.
+     * </p>
+     */
+    public static final Set<String> LARGE_TEXT_FIELDS = Set.of("disclosureValue", "description");
+
+    /**
+     * 필드 선택(fields) 조회에서 사용할 수 있는 필드명과 값 추출 함수 (응답 필드 순서 유지)
+     */
+    private static final Map<String, Function<GriDataItemDto, Object>> FIELD_ACCESSORS;
+
+    static {
+        Map<String, Function<GriDataItemDto, Object>> accessors = new LinkedHashMap<>();
+        accessors.put("id", GriDataItemDto::getId);
+        accessors.put("standardCode", GriDataItemDto::getStandardCode);
+        accessors.put("disclosureCode", GriDataItemDto::getDisclosureCode);
+        accessors.put("disclosureTitle", GriDataItemDto::getDisclosureTitle);
+        accessors.put("disclosureValue", GriDataItemDto::getDisclosureValue);
+        accessors.put("numericValue", GriDataItemDto::getNumericValue);
+        accessors.put("unit", GriDataItemDto::getUnit);
+        accessors.put("reportingPeriodStart", GriDataItemDto::getReportingPeriodStart);
+        accessors.put("reportingPeriodEnd", GriDataItemDto::getReportingPeriodEnd);
+        accessors.put("verificationStatus", GriDataItemDto::getVerificationStatus);
+        accessors.put("verificationProvider", GriDataItemDto::getVerificationProvider);
+        accessors.put("category", GriDataItemDto::getCategory);
+        accessors.put("companyId", GriDataItemDto::getCompanyId);
+        accessors.put("companyName", GriDataItemDto::getCompanyName);
+        accessors.put("description", GriDataItemDto::getDescription);
+        accessors.put("createdAt", GriDataItemDto::getCreatedAt);
+        accessors.put("updatedAt", GriDataItemDto::getUpdatedAt);
+        FIELD_ACCESSORS = Collections.unmodifiableMap(accessors);
+    }
+
     /**
      * 데이터 항목의 고유 식별자
      * <p>
@@ -253,6 +294,76 @@ public class GriDataItemDto {
         return builder.build();
     }
 
+    /**
+     * 요약 프로젝션을 GriDataItemDto로 변환
+     * <p>
+     * 긴 텍스트 필드(disclosureValue, description)는 조회되지 않았으므로 null로 남습니다.
+     * </p>
+     *
+     * @param summary 요약 프로젝션
+     * @return 변환된 GriDataItemDto 객체
+     */
+    public static GriDataItemDto fromSummary(GriDataItemSummary summary) {
+        return GriDataItemDto.builder()
+                .id(summary.getId())
+                .standardCode(summary.getStandardCode())
+                .disclosureCode(summary.getDisclosureCode())
+                .disclosureTitle(summary.getDisclosureTitle())
+                .numericValue(summary.getNumericValue())
+                .unit(summary.getUnit())
+                .reportingPeriodStart(summary.getReportingPeriodStart())
+                .reportingPeriodEnd(summary.getReportingPeriodEnd())
+                .verificationStatus(summary.getVerificationStatus())
+                .verificationProvider(summary.getVerificationProvider())
+                .category(summary.getCategory())
+                .companyId(summary.getCompanyId())
+                .companyName(summary.getCompanyName())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 요청한 필드 목록이 모두 지원되는 필드인지 검사
+     *
+     * @param fields 요청한 필드명 목록
+     * @throws IllegalArgumentException 지원하지 않는 필드가 포함된 경우
+     */
+    public static void validateFields(Set<String> fields) {
+        for (String field : fields) {
+            if (!FIELD_ACCESSORS.containsKey(field)) {
+                throw new IllegalArgumentException("지원하지 않는 필드입니다: " + field
+                        + " (사용 가능: " + String.join(", ", FIELD_ACCESSORS.keySet()) + ")");
+            }
+        }
+    }
+
+    /**
+     * 요청한 필드 중 긴 텍스트 필드가 포함되어 있는지 확인
+     *
+     * @param fields 요청한 필드명 목록
+     * @return 긴 텍스트 필드가 포함되어 있으면 true
+     */
+    public static boolean requiresLargeText(Set<String> fields) {
+        return fields.stream().anyMatch(LARGE_TEXT_FIELDS::contains);
+    }
+
+    /**
+     * 요청한 필드만 담은 맵으로 변환 (JSON 응답 크기 축소용)
+     *
+     * @param fields 응답에 포함할 필드명 목록
+     * @return 필드명-값 맵 (필드 정의 순서 유지)
+     */
+    public Map<String, Object> toFieldMap(Set<String> fields) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        FIELD_ACCESSORS.forEach((name, accessor) -> {
+            if (fields.contains(name)) {
+                result.put(name, accessor.apply(this));
+            }
+        });
+        return result;
+    }
+
     /**
      * GriDataItemDto를 GriDataItem 엔티티로 변환
      * <p>
@@ -0,0 +1,69 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * GRI 데이터 항목 복합 검색 조건 DTO
+ * <p>
+ * 카테고리, 표준 코드, 공시 코드, 검증 상태, 회사, 보고 기간 조건을 한 번에 받아
+ * 하나의 SQL 쿼리로 조회하기 위해 사용됩니다. 모든 조건은 선택 사항이며,
+ * 값이 없는 조건은 검색에서 제외됩니다.
+ * </p>
+ *
+ * <p>
+ * 목록형 조건은 여러 값을 받을 수 있으며 같은 조건 안에서는 OR(IN), 서로 다른 조건끼리는 AND로 결합됩니다.
+ * <pre>
+ * GET /api/gri/search?categories=E,S&amp;verificationStatuses=검증완료&amp;periodStart=2023-01-01&amp;periodEnd=2023-12-31
+ * </pre>
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GriDataItemSearchCondition {
+
+    /**
+     * ESG 카테고리 목록 (예: "E", "S", "G")
+     */
+    private List<String> categories;
+
+    /**
+     * GRI 표준 코드 목록 (예: "GRI 302", "GRI 305")
+     */
+    private List<String> standardCodes;
+
+    /**
+     * 공시 코드 목록 (예: "302-1", "305-1")
+     */
+    private List<String> disclosureCodes;
+
+    /**
+     * 검증 상태 목록 (예: "검증완료", "검증중")
+     */
+    private List<String> verificationStatuses;
+
+    /**
+     * 회사 ID 목록
+     */
+    private List<Long> companyIds;
+
+    /**
+     * 조회 기간 시작일 (보고 기간과 겹치는 항목을 조회)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate periodStart;
+
+    /**
+     * 조회 기간 종료일 (보고 기간과 겹치는 항목을 조회)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate periodEnd;
+}
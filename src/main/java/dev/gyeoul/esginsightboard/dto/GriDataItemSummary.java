@@ -0,0 +1,49 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * GRI 데이터 항목 요약 프로젝션
+ * <p>
+ * 목록 화면에서 사용하는 짧은 컬럼만 조회하기 위한 인터페이스 기반 프로젝션입니다.
+ * 1000자/2000자 길이의 {@code disclosureValue}, {@code description} 컬럼은 포함하지 않으므로
+ * 이 프로젝션으로 조회하면 해당 컬럼을 데이터베이스에서 읽지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 각 getter 이름은 GriDataItemRepository의 요약 쿼리 별칭(alias)과 일치해야 합니다.
+ * </p>
+ */
+public interface GriDataItemSummary {
+
+    Long getId();
+
+    String getStandardCode();
+
+    String getDisclosureCode();
+
+    String getDisclosureTitle();
+
+    Double getNumericValue();
+
+    String getUnit();
+
+    LocalDate getReportingPeriodStart();
+
+    LocalDate getReportingPeriodEnd();
+
+    String getVerificationStatus();
+
+    String getVerificationProvider();
+
+    String getCategory();
+
+    Long getCompanyId();
+
+    String getCompanyName();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,19 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 전문 검색 결과 항목과 관련도 점수
+ * <p>
+ * 점수는 PostgreSQL에서는 ts_rank, H2에서는 메모리 역색인(InvertedIndex) 점수이며,
+ * 같은 검색 결과 안에서의 순서 비교에만 사용합니다.
+ * </p>
+ *
+ * @param item 검색된 항목
+ * @param score 관련도 점수 (클수록 관련도 높음)
+ */
+@Schema(description = "전문 검색 결과 항목")
+public record SearchHit<T>(
+        @Schema(description = "검색된 항목") T item,
+        @Schema(description = "관련도 점수 (클수록 관련도 높음)", example = "0.6079") double score) {
+}
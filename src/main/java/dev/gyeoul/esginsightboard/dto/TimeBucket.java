@@ -0,0 +1,46 @@
+package dev.gyeoul.esginsightboard.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 시계열 집계 단위
+ * <p>
+ * 보고 기간 시작일(reporting_period_start)이 속한 연도/분기/월로 값을 묶습니다.
+ * </p>
+ */
+public enum TimeBucket {
+
+    /** 연도별 */
+    YEAR(12),
+    /** 분기별 */
+    QUARTER(3),
+    /** 월별 */
+    MONTH(1);
+
+    private final int months;
+
+    TimeBucket(int months) {
+        this.months = months;
+    }
+
+    /**
+     * 구간 시작일을 계산합니다.
+     *
+     * @param year 연도
+     * @param index 연도 내 순번 (분기 1~4, 월 1~12, 연도 단위는 무시)
+     * @return 구간 시작일
+     */
+    public LocalDate startOf(int year, int index) {
+        return this == YEAR ? LocalDate.of(year, 1, 1) : LocalDate.of(year, (index - 1) * months + 1, 1);
+    }
+
+    /**
+     * 구간 종료일(마지막 날)을 계산합니다.
+     *
+     * @param start 구간 시작일
+     * @return 구간 종료일
+     */
+    public LocalDate endOf(LocalDate start) {
+        return start.plusMonths(months).minusDays(1);
+    }
+}
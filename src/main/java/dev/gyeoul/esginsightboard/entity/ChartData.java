@@ -1,15 +1,28 @@
 package dev.gyeoul.esginsightboard.entity;
 
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
-@Table(name = "chart_data")
+@EntityListeners(FullTextIndexListener.class) // 변경 시 전문 검색 색인 갱신 (H2)
+// 소유자 범위 조회용 인덱스 (V10 마이그레이션)
+@Table(name = "chart_data", indexes = {
+        @Index(name = "idx_chart_data_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_chart_data_user_category", columnList = "user_id, category"),
+        @Index(name = "idx_chart_data_user_indicator", columnList = "user_id, indicator"),
+        @Index(name = "idx_chart_data_user_grid", columnList = "user_id, chartGrid"),
+        @Index(name = "idx_chart_data_user_title", columnList = "user_id, title")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChartData {
@@ -41,9 +54,11 @@ public class ChartData {
     @Column(nullable = false)
     private Integer chartGrid; // 차트 칸 (1~4)
 
-    @Lob
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String data; // 사용자 입력 데이터 (JSON 저장)
+    // 사용자 입력 데이터 (시리즈 목록, 항목별 label/value 외 속성도 그대로 저장)
+    // PostgreSQL은 jsonb, H2는 JSON 컬럼에 저장하며 Hibernate가 Jackson으로 변환 (V9 마이그레이션)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private List<ChartSeriesPoint> data;
 
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -53,28 +68,46 @@ public class ChartData {
 
     @Builder
     public ChartData(String title, String description, String category, String indicator,
-                     String chartType, Integer chartGrid, String data, User user) {
+                     String chartType, Integer chartGrid, List<ChartSeriesPoint> data, User user) {
         this.title = title;
         this.description = description;
         this.category = category;
         this.indicator = indicator;
         this.chartType = chartType;
         this.chartGrid = chartGrid;
-        this.data = data;
+        this.data = data != null ? new ArrayList<>(data) : new ArrayList<>();
         this.user = user;
     }
 
     // ✅ 값 변경을 위한 update 메서드 추가
     public void update(String title, String description, String category,
                        String indicator, String chartType, Integer chartGrid,
-                       String data) {
+                       List<ChartSeriesPoint> data) {
         this.title = title;
         this.description = description;
         this.category = category;
         this.indicator = indicator;
         this.chartType = chartType;
         this.chartGrid = chartGrid;
-        this.data = data;
+        this.data = data != null ? new ArrayList<>(data) : new ArrayList<>();
+    }
+
+    /**
+     * 시리즈 하나를 교체합니다.
+     *
+     * @param index 교체할 시리즈 위치 (0부터)
+     * @param series 새 시리즈
+     * @return 교체 여부 (위치가 범위를 벗어나면 false)
+     */
+    public boolean replaceSeries(int index, ChartSeriesPoint series) {
+        if (index < 0 || index >= data.size()) {
+            return false;
+        }
+        // 변경 감지가 확실히 일어나도록 새 목록으로 교체
+        List<ChartSeriesPoint> updated = new ArrayList<>(data);
+        updated.set(index, series);
+        this.data = updated;
+        return true;
     }
 
     @PrePersist
@@ -7,8 +7,13 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@EntityListeners(EsgReferenceDataListener.class) // 변경 시 코드 조회 레지스트리 갱신
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // JPA로 변경하면 Hibernate가 캐시 항목과 쿼리 캐시를 함께 무효화
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EsgCategory {
@@ -2,15 +2,16 @@ package dev.gyeoul.esginsightboard.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@EntityListeners(EsgReferenceDataListener.class) // 변경 시 코드 조회 레지스트리 갱신
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE) // JPA로 변경하면 Hibernate가 캐시 항목과 쿼리 캐시를 함께 무효화
 @Table(name = "esg_indicator")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자 보호
-@AllArgsConstructor
 public class EsgIndicator {
 
 //    @Id
@@ -32,10 +33,9 @@ public class EsgIndicator {
     @JoinColumn(name = "category_id", nullable = false)
     private EsgCategory category; // 이 지표가 속한 ESG 카테고리
 
-    // 이 지표와 연결된 입력된 데이터 항목 목록
-    // InputValue 엔티티의 Indicator 필드가 이 관계의 주인
-    @OneToMany(mappedBy = "indicator", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<EsgInputValue> inputValues = new ArrayList<>();
+    // 입력값(EsgInputValue)과의 관계는 EsgInputValue.indicator 단방향으로만 매핑
+    // 지표 하나에 입력값이 수만 건까지 쌓이므로 컬렉션으로 두지 않고,
+    // EsgInputValueRepository의 페이지/집계 쿼리로 조회
 
     @Builder
     public EsgIndicator(String indicatorCode, String indicatorTitle, String description, EsgCategory category) {
@@ -10,6 +10,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = {
+        // 지표/사용자/보고 기간별로 하나의 값만 저장 (V7 마이그레이션, 저장은 upsert)
+        @UniqueConstraint(name = "uk_esg_input_value_period",
+                columnNames = {"indicator_id", "user_id", "reportingPeriodStart", "reportingPeriodEnd"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // 기본 생성자 보호
 public class EsgInputValue {
@@ -18,6 +23,7 @@ public class EsgInputValue {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id; // 자동 증가 ID
 
+    // 단방향 다대일 (지표 쪽에는 입력값 컬렉션이 없음)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "indicator_id", nullable = false)
     private EsgIndicator indicator; // 연결된 ESG 지표
@@ -53,7 +59,6 @@ public class EsgInputValue {
         this.unit = unit;
         this.reportingPeriodStart = reportingPeriodStart;
         this.reportingPeriodEnd = reportingPeriodEnd;
-        indicator.getInputValues().add(this);
     }
 
     @PrePersist
@@ -0,0 +1,31 @@
+package dev.gyeoul.esginsightboard.entity;
+
+import dev.gyeoul.esginsightboard.service.EsgReferenceRegistry;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * ESG 카테고리/지표 변경 감지 리스너
+ * <p>
+ * JPA로 카테고리/지표가 저장/수정/삭제되면 코드 조회용 메모리 레지스트리를 커밋 후 비웁니다.
+ * Hibernate가 Spring 빈 컨테이너로 생성하므로 의존성을 주입받을 수 있으며,
+ * 레지스트리가 리포지토리(EntityManagerFactory)에 의존하므로 순환 참조를 피하기 위해 ObjectProvider로 늦게 조회합니다.
+ * </p>
+ */
+public class EsgReferenceDataListener {
+
+    private final ObjectProvider<EsgReferenceRegistry> registryProvider;
+
+    public EsgReferenceDataListener(ObjectProvider<EsgReferenceRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        registryProvider.ifAvailable(EsgReferenceRegistry::invalidate);
+    }
+}
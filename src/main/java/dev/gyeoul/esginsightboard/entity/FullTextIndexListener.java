@@ -0,0 +1,35 @@
+package dev.gyeoul.esginsightboard.entity;
+
+import dev.gyeoul.esginsightboard.service.FullTextSearchService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 전문 검색 대상(차트, GRI 데이터 항목) 변경 감지 리스너
+ * <p>
+ * H2에서는 전문 검색을 메모리 역색인으로 처리하므로, JPA로 저장/수정/삭제된 항목을 커밋 후 색인에 반영합니다.
+ * (PostgreSQL은 search_vector 트리거가 처리하므로 아무 작업도 하지 않습니다)
+ * 검색 서비스가 JdbcTemplate(DataSource)에 의존하므로 EsgReferenceDataListener와 같이 ObjectProvider로 늦게 조회합니다.
+ * </p>
+ */
+public class FullTextIndexListener {
+
+    private final ObjectProvider<FullTextSearchService> searchServiceProvider;
+
+    public FullTextIndexListener(ObjectProvider<FullTextSearchService> searchServiceProvider) {
+        this.searchServiceProvider = searchServiceProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Object entity) {
+        searchServiceProvider.ifAvailable(service -> service.onEntityChanged(entity, false));
+    }
+
+    @PostRemove
+    void onRemove(Object entity) {
+        searchServiceProvider.ifAvailable(service -> service.onEntityChanged(entity, true));
+    }
+}
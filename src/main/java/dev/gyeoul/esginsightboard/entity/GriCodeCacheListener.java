@@ -0,0 +1,30 @@
+package dev.gyeoul.esginsightboard.entity;
+
+import dev.gyeoul.esginsightboard.service.GriCodeLookupCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * GRI 데이터 항목 변경 감지 리스너
+ * <p>
+ * JPA로 GRI 데이터 항목이 저장/수정/삭제되면 GRI 코드 조회 캐시를 트랜잭션이 끝난 뒤 비웁니다.
+ * EsgReferenceDataListener와 같이 Hibernate가 Spring 빈 컨테이너로 생성하며, 캐시는 ObjectProvider로 늦게 조회합니다.
+ * </p>
+ */
+public class GriCodeCacheListener {
+
+    private final ObjectProvider<GriCodeLookupCache> cacheProvider;
+
+    public GriCodeCacheListener(ObjectProvider<GriCodeLookupCache> cacheProvider) {
+        this.cacheProvider = cacheProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        cacheProvider.ifAvailable(GriCodeLookupCache::invalidateAll);
+    }
+}
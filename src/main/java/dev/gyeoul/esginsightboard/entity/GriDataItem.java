@@ -34,9 +34,30 @@ import java.util.Objects;
  *   <li>경제성과, 반부패 등의 지배구조 데이터 저장</li>
  * </ul>
  * </p>
+ * 
+ * <p>
+ * 인덱스는 GriDataItemRepository의 조회 메서드와 복합 검색(/api/gri/search) 조건에 맞춰 정의되어 있습니다.
+ * 실제 인덱스는 Flyway 마이그레이션(db/migration)으로 생성되며, 아래 선언은 매핑 문서화 용도입니다.
+ * PostgreSQL에서는 보고 기간 겹침 조회용 GiST daterange 인덱스(idx_gri_period_range)와
+ * 공시 제목/설명/값 전문 검색용 search_vector 컬럼 및 GIN 인덱스(idx_gri_search_vector, V11)가 추가로 생성됩니다.
+ * </p>
+ * 
+ * <p>
+ * PostgreSQL에서 gri_data_items는 보고 시작일(reportingPeriodStart) 연도 기준 범위 파티션 테이블입니다.
+ * 연도 파티션은 GriDataItemPartitionService가 관리하며, 보고 시작일이 없는 항목은 기본 파티션에 저장됩니다.
+ * </p>
  */
 @Entity
-@Table(name = "gri_data_items")
+@EntityListeners({FullTextIndexListener.class, GriCodeCacheListener.class}) // 변경 시 전문 검색 색인(H2)과 GRI 코드 조회 캐시 갱신
+@Table(name = "gri_data_items", indexes = {
+        @Index(name = "idx_gri_category_period", columnList = "category, reportingPeriodStart"),
+        @Index(name = "idx_gri_standard_disclosure", columnList = "standardCode, disclosureCode"),
+        @Index(name = "idx_gri_disclosure", columnList = "disclosureCode"),
+        @Index(name = "idx_gri_verification_category", columnList = "verificationStatus, category"),
+        @Index(name = "idx_gri_period", columnList = "reportingPeriodStart, reportingPeriodEnd"),
+        @Index(name = "idx_gri_company_category_period", columnList = "company_id, category, reportingPeriodStart"),
+        @Index(name = "idx_gri_created_at", columnList = "createdAt")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class GriDataItem {
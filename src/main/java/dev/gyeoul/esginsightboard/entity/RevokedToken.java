@@ -0,0 +1,46 @@
+package dev.gyeoul.esginsightboard.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 JWT 엔티티
+ * <p>
+ * 로그아웃 등으로 만료 전에 폐기된 토큰의 jti(JWT ID)를 저장합니다.
+ * 토큰의 만료 시각이 지나면 서명 검증 단계에서 거부되므로 행을 보관할 필요가 없으며,
+ * TokenRevocationService가 주기적으로 삭제합니다.
+ * </p>
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expiresAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+
+    @Id
+    @Column(length = 64)
+    private String jti;
+
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;    // 토큰 만료 시각
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;    // 폐기 시각
+
+    @Builder
+    public RevokedToken(String jti, Long userId, LocalDateTime expiresAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = LocalDateTime.now();
+    }
+}
@@ -83,6 +83,13 @@ public class User implements UserDetails {
     @Column(columnDefinition = "boolean default true")
     private boolean enabled = true;
 
+    /**
+     * 토큰 버전
+     * JWT의 "ver" 클레임과 비교되며, 값이 증가하면 이전에 발급된 토큰이 모두 무효화됨
+     */
+    @Column(nullable = false)
+    private int tokenVersion;
+
     /**
      * User 엔티티 생성을 위한 빌더 패턴 구현
      */
@@ -0,0 +1,26 @@
+package dev.gyeoul.esginsightboard.exception;
+
+/**
+ * 서버가 처리할 수 있는 양을 넘는 요청이 들어왔을 때 발생하는 예외
+ * <p>
+ * GlobalExceptionHandler에서 HTTP 429 응답과 Retry-After 헤더로 변환됩니다.
+ * </p>
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 클라이언트가 다시 시도하기까지 기다려야 하는 시간(초)
+     */
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
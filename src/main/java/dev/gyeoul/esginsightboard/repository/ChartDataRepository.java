@@ -1,24 +1,45 @@
 package dev.gyeoul.esginsightboard.repository;
 
+import dev.gyeoul.esginsightboard.dto.ChartDataHeader;
+import dev.gyeoul.esginsightboard.dto.ChartPayload;
 import dev.gyeoul.esginsightboard.entity.ChartData;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ChartDataRepository extends JpaRepository<ChartData, Long> {
+public interface ChartDataRepository extends JpaRepository<ChartData, Long>, ChartDataRepositoryCustom {
 
-    // ✅ 특정 필드로 조회하는 메서드
-    List<ChartData> findByTitle(String title); // 제목으로 조회
+    // ✅ 특정 필드로 조회하는 메서드 (모두 소유자 범위, user_id 선두 복합 인덱스 사용 - V10)
+    List<ChartData> findByUserIdAndTitle(Long userId, String title); // 제목으로 조회
 
-    List<ChartData> findByDescriptionContaining(String keyword); // 설명에 특정 키워드 포함된 데이터 조회
+    List<ChartData> findByUserIdAndDescriptionContaining(Long userId, String keyword); // 설명에 특정 키워드 포함된 데이터 조회
 
-    List<ChartData> findByCategory(String category); // ESG 카테고리(E, S, G)별 조회
+    List<ChartData> findByUserIdAndCategory(Long userId, String category); // ESG 카테고리(E, S, G)별 조회
 
-    List<ChartData> findByIndicator(String indicator); // 특정 세부 지표(indicator)별 조회
+    List<ChartData> findByUserIdAndIndicator(Long userId, String indicator); // 특정 세부 지표(indicator)별 조회
 
-    List<ChartData> findByChartGrid(Integer chartGrid); // 차트 칸 개수로 조회
+    List<ChartData> findByUserIdAndChartGrid(Long userId, Integer chartGrid); // 차트 칸 개수로 조회
 
+    Optional<ChartData> findByIdAndUserId(Long id, Long userId); // 내 차트 하나 조회 (다른 사용자의 차트이면 빈 값)
 
-}
\ No newline at end of file
+    // ✅ JSON 데이터(data)를 제외한 사용자의 차트 항목만 조회 (data는 ChartPayloadCache에서 가져옴)
+    @Query("SELECT new dev.gyeoul.esginsightboard.dto.ChartDataHeader(c.id, c.user.id, c.title, c.description, "
+            + "c.category, c.indicator, c.chartType, c.chartGrid, c.updatedAt) FROM ChartData c "
+            + "WHERE c.user.id = :userId ORDER BY c.id")
+    List<ChartDataHeader> findHeadersByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new dev.gyeoul.esginsightboard.dto.ChartDataHeader(c.id, c.user.id, c.title, c.description, "
+            + "c.category, c.indicator, c.chartType, c.chartGrid, c.updatedAt) FROM ChartData c "
+            + "WHERE c.user.id = :userId AND c.id IN :ids ORDER BY c.id")
+    List<ChartDataHeader> findHeadersByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // ✅ 캐시에 없는 차트의 JSON 데이터만 조회
+    @Query("SELECT new dev.gyeoul.esginsightboard.dto.ChartPayload(c.id, c.data) FROM ChartData c WHERE c.id IN :ids")
+    List<ChartPayload> findPayloadsByIdIn(@Param("ids") Collection<Long> ids);
+}
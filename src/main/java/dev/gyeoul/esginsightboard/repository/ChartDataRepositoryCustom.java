@@ -0,0 +1,62 @@
+package dev.gyeoul.esginsightboard.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.gyeoul.esginsightboard.dto.ChartDataHeader;
+import dev.gyeoul.esginsightboard.dto.ChartDataSearchCondition;
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
+import dev.gyeoul.esginsightboard.entity.ChartData;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * ChartData의 JSON 데이터(data 컬럼) 검색/부분 수정
+ * <p>
+ * PostgreSQL은 jsonb 연산자로 DB에서 처리하고, H2는 같은 결과를 애플리케이션에서 계산합니다.
+ * </p>
+ */
+public interface ChartDataRepositoryCustom {
+
+    /**
+     * 사용자의 차트 중 data가 조건 JSON을 포함하는 차트를 조회합니다.
+     * <p>
+     * jsonb {@code @>} 연산자와 같은 규칙을 따릅니다.
+     * 예: {@code [{"label": "2023"}]} 은 label이 "2023"인 시리즈가 있는 차트와 일치합니다.
+     * </p>
+     *
+     * @param userId 사용자 ID
+     * @param pattern 조건 JSON (객체 또는 배열)
+     * @return ID 오름차순 차트 목록
+     */
+    List<ChartData> findByUserIdAndDataContaining(Long userId, JsonNode pattern);
+
+    /**
+     * 차트의 시리즈 하나를 교체합니다.
+     * <p>
+     * PostgreSQL은 jsonb_set으로 해당 요소만 갱신하므로 차트 전체 데이터를 읽거나 다시 쓰지 않습니다.
+     * </p>
+     *
+     * @param chartId 차트 ID
+     * @param userId 차트 소유자 ID (다른 사용자의 차트는 수정하지 않음)
+     * @param index 교체할 시리즈 위치 (0부터)
+     * @param series 새 시리즈
+     * @return 교체 여부 (차트가 없거나, 소유자가 다르거나, 위치가 범위를 벗어나면 false)
+     */
+    boolean replaceSeries(Long chartId, Long userId, int index, ChartSeriesPoint series);
+
+    /**
+     * 사용자 또는 회사 범위에서 조건에 맞는 차트를 페이지 단위로 조회합니다. (JSON 데이터 제외)
+     * <p>
+     * 값이 있는 조건만 WHERE 절에 포함하므로, 소유자 + 조건 컬럼 복합 인덱스(V10)를 그대로 사용합니다.
+     * 회사 범위는 users.company_id(idx_users_company)로 소속 사용자를 찾은 뒤 조회합니다.
+     * </p>
+     *
+     * @param condition 검색 조건
+     * @param userId 사용자 ID (companyId가 null일 때 사용)
+     * @param companyId 회사 ID (null이 아니면 회사 소속 사용자 전체의 차트)
+     * @param pageable 페이지/정렬
+     * @return 차트 헤더 페이지
+     */
+    Page<ChartDataHeader> findHeaders(ChartDataSearchCondition condition, Long userId, Long companyId, Pageable pageable);
+}
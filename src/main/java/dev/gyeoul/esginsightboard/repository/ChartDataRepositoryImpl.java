@@ -0,0 +1,166 @@
+package dev.gyeoul.esginsightboard.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.config.DatabasePlatform;
+import dev.gyeoul.esginsightboard.dto.ChartDataHeader;
+import dev.gyeoul.esginsightboard.dto.ChartDataSearchCondition;
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
+import dev.gyeoul.esginsightboard.entity.ChartData;
+import dev.gyeoul.esginsightboard.util.JsonContainment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ChartData JSON 데이터 검색/부분 수정 구현
+ * <p>
+ * PostgreSQL: data 컬럼이 jsonb이므로 포함 검색은 {@code data @> ?}(GIN 인덱스 idx_chart_data_data),
+ * 시리즈 교체는 {@code jsonb_set}으로 DB에서 처리합니다.
+ * </p>
+ *
+ * <p>
+ * H2: jsonb 연산자가 없으므로 사용자의 차트를 읽어 {@link JsonContainment}로 걸러내고,
+ * 시리즈 교체는 엔티티를 수정합니다. (로컬/테스트용, 사용자 단위로만 읽음)
+ * </p>
+ */
+@RequiredArgsConstructor
+public class ChartDataRepositoryImpl implements ChartDataRepositoryCustom {
+
+    private static final String POSTGRESQL_CONTAINS_SQL =
+            "SELECT * FROM chart_data WHERE user_id = ? AND data @> CAST(? AS jsonb) ORDER BY id";
+
+    // create_missing = false, 배열 길이를 먼저 확인하므로 범위를 벗어난 위치에는 추가하지 않음
+    private static final String POSTGRESQL_REPLACE_SERIES_SQL =
+            "UPDATE chart_data SET data = jsonb_set(data, ARRAY[CAST(? AS TEXT)], CAST(? AS jsonb), false), "
+            + "updated_at = ? "
+            + "WHERE id = ? AND user_id = ? AND jsonb_typeof(data) = 'array' AND jsonb_array_length(data) > ?";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ChartData> findByUserIdAndDataContaining(Long userId, JsonNode pattern) {
+        if (databasePlatform.isPostgreSql()) {
+            return entityManager.createNativeQuery(POSTGRESQL_CONTAINS_SQL, ChartData.class)
+                    .setParameter(1, userId)
+                    .setParameter(2, pattern.toString())
+                    .getResultList();
+        }
+        return entityManager.createQuery(
+                        "SELECT c FROM ChartData c WHERE c.user.id = :userId ORDER BY c.id", ChartData.class)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .filter(chart -> JsonContainment.contains(objectMapper.valueToTree(chart.getData()), pattern))
+                .toList();
+    }
+
+    @Override
+    public boolean replaceSeries(Long chartId, Long userId, int index, ChartSeriesPoint series) {
+        if (index < 0) {
+            return false;
+        }
+        if (databasePlatform.isPostgreSql()) {
+            return jdbcTemplate.update(POSTGRESQL_REPLACE_SERIES_SQL,
+                    String.valueOf(index), toJson(series), Timestamp.valueOf(LocalDateTime.now()),
+                    chartId, userId, index) > 0;
+        }
+        ChartData chart = entityManager.find(ChartData.class, chartId);
+        if (chart == null || !Objects.equals(chart.getUser().getId(), userId)) {
+            return false;
+        }
+        return chart.replaceSeries(index, series);
+    }
+
+    @Override
+    public Page<ChartDataHeader> findHeaders(ChartDataSearchCondition condition, Long userId, Long companyId,
+                                             Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<ChartDataHeader> query = cb.createQuery(ChartDataHeader.class);
+        Root<ChartData> chart = query.from(ChartData.class);
+        query.select(cb.construct(ChartDataHeader.class,
+                        chart.get("id"), chart.get("user").get("id"), chart.get("title"), chart.get("description"),
+                        chart.get("category"), chart.get("indicator"), chart.get("chartType"), chart.get("chartGrid"),
+                        chart.get("updatedAt")))
+                .where(toPredicates(cb, chart, condition, userId, companyId))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), chart, cb));
+
+        TypedQuery<ChartDataHeader> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        // 마지막 페이지처럼 전체 개수를 알 수 있으면 count 쿼리를 생략
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<ChartData> countRoot = countQuery.from(ChartData.class);
+            countQuery.select(cb.count(countRoot))
+                    .where(toPredicates(cb, countRoot, condition, userId, companyId));
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+
+    // 값이 있는 조건만 포함 (소유자 조건은 항상 첫 번째)
+    private static Predicate[] toPredicates(CriteriaBuilder cb, Root<ChartData> chart,
+                                            ChartDataSearchCondition condition, Long userId, Long companyId) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (companyId != null) {
+            predicates.add(cb.equal(chart.get("user").get("company").get("id"), companyId));
+        } else {
+            predicates.add(cb.equal(chart.get("user").get("id"), userId));
+        }
+        if (StringUtils.hasText(condition.getCategory())) {
+            predicates.add(cb.equal(chart.get("category"), condition.getCategory()));
+        }
+        if (StringUtils.hasText(condition.getIndicator())) {
+            predicates.add(cb.equal(chart.get("indicator"), condition.getIndicator()));
+        }
+        if (StringUtils.hasText(condition.getChartType())) {
+            predicates.add(cb.equal(chart.get("chartType"), condition.getChartType()));
+        }
+        if (condition.getChartGrid() != null) {
+            predicates.add(cb.equal(chart.get("chartGrid"), condition.getChartGrid()));
+        }
+        if (StringUtils.hasText(condition.getTitle())) {
+            predicates.add(cb.equal(chart.get("title"), condition.getTitle()));
+        }
+        if (StringUtils.hasText(condition.getKeyword())) {
+            predicates.add(cb.like(chart.get("description"), "%" + escapeLike(condition.getKeyword()) + "%", '\\'));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("시리즈를 JSON으로 변환할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package dev.gyeoul.esginsightboard.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.dto.ChartDraft;
+import dev.gyeoul.esginsightboard.dto.EsgChartDataDto;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 차트 임시 저장 변경 내역 파일 (한 줄에 JSON 하나씩 이어 쓰기)
+ * <p>
+ * 저장(SAVE), 삭제(DELETE), 사용자 전체 삭제(CLEAR)를 기록하고, 서버 시작 시 순서대로 다시 적용하여 임시 저장을 복원합니다.
+ * 기록이 쌓이면 현재 남아 있는 항목만으로 파일을 다시 씁니다(임시 파일에 쓴 뒤 교체).
+ * 비정상 종료로 마지막 줄이 잘린 경우 해당 줄만 건너뜁니다.
+ * </p>
+ *
+ * <p>
+ * 메모리 저장소가 기준이므로 파일 쓰기에 실패해도 예외를 던지지 않고 경고만 남깁니다.
+ * 여러 스레드의 기록은 이 객체의 잠금으로 한 줄씩 직렬화됩니다.
+ * ChartRepository는 메모리 변경과 기록을 같은 순서로 남기기 위해 이 객체의 잠금 안에서 변경 후 기록합니다.
+ * </p>
+ */
+@Slf4j
+class ChartDraftJournal implements AutoCloseable {
+
+    private static final String SAVE = "SAVE";
+    private static final String DELETE = "DELETE";
+    private static final String CLEAR = "CLEAR";
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private BufferedWriter writer;
+    private int appendedSinceRewrite;
+
+    ChartDraftJournal(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 파일의 기록을 순서대로 적용한 결과를 반환합니다. (파일이 없으면 빈 목록)
+     * <p>
+     * 사용자별 최대 건수 초과로 제거된 항목은 기록되지 않으므로, 저장 기록을 적용할 때 같은 제한을 다시 적용합니다.
+     * </p>
+     *
+     * @param maxPerUser 사용자별 최대 임시 저장 건수
+     * @return 남아 있는 임시 저장 (기록 순)
+     */
+    synchronized List<ChartDraft> replay(int maxPerUser) throws IOException {
+        Map<Long, ChartDraft> drafts = new LinkedHashMap<>();
+        if (!Files.exists(path)) {
+            return new ArrayList<>();
+        }
+        // 사용자 ID → 임시 저장 ID (오래된 순)
+        Map<Long, Deque<Long>> userDrafts = new HashMap<>();
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Record entry;
+                try {
+                    entry = objectMapper.readValue(line, Record.class);
+                } catch (JsonProcessingException e) {
+                    skipped++;
+                    continue;
+                }
+                switch (Objects.requireNonNullElse(entry.op(), "")) {
+                    case SAVE -> {
+                        drafts.put(entry.id(), new ChartDraft(entry.id(), entry.userId(), entry.savedAt(), entry.chart()));
+                        Deque<Long> ids = userDrafts.computeIfAbsent(entry.userId(), key -> new ArrayDeque<>());
+                        ids.addLast(entry.id());
+                        if (ids.size() > maxPerUser) {
+                            drafts.remove(ids.pollFirst());
+                        }
+                    }
+                    case DELETE -> {
+                        drafts.remove(entry.id());
+                        Deque<Long> ids = userDrafts.get(entry.userId());
+                        if (ids != null) {
+                            ids.remove(entry.id());
+                        }
+                    }
+                    case CLEAR -> {
+                        Deque<Long> ids = userDrafts.remove(entry.userId());
+                        if (ids != null) {
+                            ids.forEach(drafts::remove);
+                        }
+                    }
+                    default -> skipped++;
+                }
+            }
+        }
+        if (skipped > 0) {
+            log.warn("차트 임시 저장 저널에서 읽을 수 없는 기록 {}건을 건너뛰었습니다: {}", skipped, path);
+        }
+        return new ArrayList<>(drafts.values());
+    }
+
+    synchronized void appendSave(ChartDraft draft) {
+        append(new Record(SAVE, draft.id(), draft.userId(), draft.savedAt(), draft.chart()));
+    }
+
+    synchronized void appendDelete(Long userId, long id) {
+        append(new Record(DELETE, id, userId, null, null));
+    }
+
+    synchronized void appendClear(Long userId) {
+        append(new Record(CLEAR, 0, userId, null, null));
+    }
+
+    /**
+     * 마지막으로 다시 쓴 뒤 추가된 기록 수
+     */
+    synchronized int getAppendedSinceRewrite() {
+        return appendedSinceRewrite;
+    }
+
+    /**
+     * 남아 있는 항목만으로 파일을 다시 씁니다.
+     * <p>
+     * 현재 항목은 잠금을 잡은 뒤 읽으므로, 그 전에 바뀐 항목은 새 파일에 포함되고
+     * 그 후의 변경 기록은 다시 쓰기가 끝난 뒤 새 파일에 이어 써집니다.
+     * </p>
+     *
+     * @param snapshot 현재 임시 저장 전체를 반환하는 함수
+     */
+    synchronized void rewrite(Supplier<Collection<ChartDraft>> snapshot) {
+        try {
+            Collection<ChartDraft> drafts = snapshot.get();
+            closeWriter();
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (ChartDraft draft : drafts) {
+                    out.write(objectMapper.writeValueAsString(
+                            new Record(SAVE, draft.id(), draft.userId(), draft.savedAt(), draft.chart())));
+                    out.newLine();
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            appendedSinceRewrite = 0;
+        } catch (IOException e) {
+            log.warn("차트 임시 저장 저널 정리 실패 (기존 파일 유지): {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            closeWriter();
+        } catch (IOException e) {
+            log.warn("차트 임시 저장 저널 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    private void append(Record record) {
+        try {
+            if (writer == null) {
+                Path parent = path.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(objectMapper.writeValueAsString(record));
+            writer.newLine();
+            writer.flush();
+            appendedSinceRewrite++;
+        } catch (IOException e) {
+            log.warn("차트 임시 저장 저널 기록 실패 (메모리에는 저장됨): {}", e.getMessage());
+        }
+    }
+
+    private void closeWriter() throws IOException {
+        if (writer != null) {
+            BufferedWriter current = writer;
+            writer = null;
+            current.close();
+        }
+    }
+
+    /**
+     * 저널 한 줄
+     */
+    private record Record(String op, long id, Long userId, Instant savedAt, EsgChartDataDto chart) {
+    }
+}
@@ -1,24 +1,385 @@
 package dev.gyeoul.esginsightboard.repository;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.config.ChartDraftProperties;
+import dev.gyeoul.esginsightboard.dto.ChartDraft;
 import dev.gyeoul.esginsightboard.dto.EsgChartDataDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+/**
+ * 차트 임시 저장소 (메모리)
+ * <p>
+ * 사용자별 파티션에 임시 저장을 저장 순서대로 보관합니다.
+ * 파티션 조회는 ConcurrentHashMap의 잠금 없는 get, 추가는 ConcurrentLinkedDeque의 CAS로 처리하므로 저널을 쓰지 않으면 저장에 잠금이 없습니다.
+ * 조회 결과는 항상 복사본(스냅샷)이므로 이후 저장/삭제의 영향을 받지 않습니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>사용자별로 최근 chart.drafts.max-per-user건만 유지하며, 초과하면 오래된 항목부터 제거합니다.</li>
+ *   <li>chart.drafts.ttl이 지난 항목은 조회 결과에서 제외되며, chart.drafts.eviction-interval-ms 주기로 제거됩니다.
+ *       비어 있는 사용자 파티션도 함께 제거하므로 메모리 사용량은 최근 임시 저장한 사용자 수로 제한됩니다.</li>
+ *   <li>chart.drafts.journal.enabled가 true이면 변경 내역을 파일에 이어 쓰고({@link ChartDraftJournal}),
+ *       서버 시작 시 복원합니다. 단일 서버 기준이며, 여러 서버 간에는 공유되지 않습니다.
+ *       이때 저장/삭제는 메모리 변경과 저널 기록을 저널 잠금 안에서 함께 처리하여, 기록 순서가 실제 변경 순서와 같도록 합니다.</li>
+ * </ul>
+ */
+@Slf4j
 @Repository
 public class ChartRepository {
 
-    // 임시 저장소 (DB 대체용)
-    private final List<EsgChartDataDto> chartDataStore = new ArrayList<>();
+    // 저널 기록이 이보다 적으면 다시 쓰지 않음
+    private static final int JOURNAL_COMPACT_MIN_RECORDS = 1000;
 
-    // 차트 데이터 저장
-    public void save(EsgChartDataDto dto) {
-        chartDataStore.add(dto);
+    private final ConcurrentMap<Long, Partition> partitions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final int maxPerUser;
+    private final Duration ttl;
+    private final ChartDraftJournal journal;
+    private final Clock clock;
+
+    @Autowired
+    public ChartRepository(ChartDraftProperties properties, ObjectMapper objectMapper) {
+        this(properties, objectMapper, Clock.systemUTC());
+    }
+
+    // 보관 기간 테스트에서 시각을 지정하기 위한 생성자
+    ChartRepository(ChartDraftProperties properties, ObjectMapper objectMapper, Clock clock) {
+        if (properties.getMaxPerUser() <= 0 || properties.getTtl().isZero() || properties.getTtl().isNegative()) {
+            throw new IllegalArgumentException("잘못된 차트 임시 저장 설정입니다: chart.drafts");
+        }
+        this.maxPerUser = properties.getMaxPerUser();
+        this.ttl = properties.getTtl();
+        this.journal = properties.getJournal().isEnabled()
+                ? new ChartDraftJournal(Path.of(properties.getJournal().getPath()), objectMapper)
+                : null;
+        this.clock = clock;
+    }
+
+    /**
+     * 저널 파일에서 임시 저장을 복원하고, 남아 있는 항목만으로 파일을 다시 씁니다.
+     */
+    @PostConstruct
+    void restore() {
+        if (journal == null) {
+            return;
+        }
+        List<ChartDraft> drafts;
+        try {
+            drafts = journal.replay(maxPerUser);
+        } catch (IOException e) {
+            log.warn("차트 임시 저장 저널 읽기 실패 (빈 저장소로 시작): {}", e.getMessage());
+            return;
+        }
+        Instant cutoff = expiryCutoff();
+        drafts.sort(Comparator.comparingLong(ChartDraft::id));
+        int restored = 0;
+        for (ChartDraft draft : drafts) {
+            sequence.accumulateAndGet(draft.id(), Math::max);
+            if (draft.userId() != null && draft.savedAt() != null && draft.savedAt().isAfter(cutoff)) {
+                append(draft);
+                restored++;
+            }
+        }
+        journal.rewrite(this::snapshotAll);
+        log.info("차트 임시 저장 {}건 복원 (저널 기록 {}건)", restored, drafts.size());
+    }
+
+    @PreDestroy
+    void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    /**
+     * 차트 입력값을 임시 저장합니다.
+     *
+     * @param userId 작성자 ID
+     * @param dto 차트 입력값 (저장 시점의 값으로 복사)
+     * @return 저장된 임시 저장 항목
+     */
+    public ChartDraft save(Long userId, EsgChartDataDto dto) {
+        if (userId == null || dto == null) {
+            throw new IllegalArgumentException("사용자 ID와 차트 데이터는 필수입니다.");
+        }
+        return journaled(() -> {
+            ChartDraft draft = new ChartDraft(sequence.incrementAndGet(), userId, clock.instant(), copyOf(dto));
+            append(draft);
+            return draft;
+        }, draft -> journal.appendSave(draft));
+    }
+
+    /**
+     * 사용자의 임시 저장 목록을 저장 순서대로 반환합니다. (보관 기간이 지난 항목 제외)
+     *
+     * @param userId 작성자 ID
+     * @return 임시 저장 목록 복사본
+     */
+    public List<ChartDraft> findByUserId(Long userId) {
+        Partition partition = userId != null ? partitions.get(userId) : null;
+        return partition != null ? partition.snapshot(expiryCutoff()) : List.of();
+    }
+
+    /**
+     * 사용자의 임시 저장 항목 하나를 반환합니다.
+     *
+     * @param userId 작성자 ID
+     * @param draftId 임시 저장 ID
+     * @return 임시 저장 항목 (없거나 보관 기간이 지났으면 빈 값)
+     */
+    public Optional<ChartDraft> findById(Long userId, long draftId) {
+        return findByUserId(userId).stream()
+                .filter(draft -> draft.id() == draftId)
+                .findFirst();
+    }
+
+    /**
+     * 사용자의 임시 저장 항목 하나를 삭제합니다.
+     *
+     * @param userId 작성자 ID
+     * @param draftId 임시 저장 ID
+     * @return 삭제 여부
+     */
+    public boolean deleteById(Long userId, long draftId) {
+        Partition partition = userId != null ? partitions.get(userId) : null;
+        if (partition == null) {
+            return false;
+        }
+        return journaled(() -> partition.remove(draftId), removed -> {
+            if (removed) {
+                journal.appendDelete(userId, draftId);
+            }
+        });
     }
 
-    // 전체 저장 데이터 반환 (옵션)
-    public List<EsgChartDataDto> findAll() {
-        return chartDataStore;
+    /**
+     * 사용자의 임시 저장을 모두 삭제합니다.
+     *
+     * @param userId 작성자 ID
+     * @return 삭제한 항목 수
+     */
+    public int deleteByUserId(Long userId) {
+        if (userId == null) {
+            return 0;
+        }
+        return journaled(() -> {
+            Partition partition = partitions.remove(userId);
+            // 동시에 저장 중이던 append()가 이 파티션을 다시 연결해도 삭제한 항목이 되살아나지 않도록 비움
+            return partition != null ? partition.clear() : 0;
+        }, cleared -> {
+            if (cleared > 0) {
+                journal.appendClear(userId);
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 항목과 빈 사용자 파티션을 제거하고, 저널 기록이 쌓였으면 파일을 다시 씁니다.
+     */
+    @Scheduled(fixedDelayString = "${chart.drafts.eviction-interval-ms:60000}",
+            initialDelayString = "${chart.drafts.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        Instant cutoff = expiryCutoff();
+        int evicted = 0;
+        int remaining = 0;
+        for (Map.Entry<Long, Partition> entry : partitions.entrySet()) {
+            Partition partition = entry.getValue();
+            evicted += partition.evictBefore(cutoff);
+            if (partition.isEmpty()) {
+                // 그사이 추가된 항목은 append()가 파티션을 다시 연결하므로 유실되지 않음
+                partitions.remove(entry.getKey(), partition);
+            } else {
+                remaining += partition.size();
+            }
+        }
+        if (evicted > 0) {
+            log.debug("만료된 차트 임시 저장 {}건 제거 (남은 항목: {}건, 사용자: {}명)", evicted, remaining, partitions.size());
+        }
+        if (journal != null
+                && journal.getAppendedSinceRewrite() > Math.max(JOURNAL_COMPACT_MIN_RECORDS, remaining * 2)) {
+            journal.rewrite(this::snapshotAll);
+        }
+    }
+
+    /**
+     * 메모리 변경을 실행하고, 저널을 사용하면 같은 잠금 안에서 결과를 기록합니다.
+     * <p>
+     * 변경과 기록 사이에 다른 스레드의 변경이 끼어들면 저널의 순서가 실제와 달라질 수 있으므로
+     * (예: 저장보다 삭제가 먼저 기록되어 복원 시 삭제한 항목이 되살아남) 둘을 저널 잠금으로 묶습니다.
+     * 저널을 쓰지 않으면 잠금 없이 변경만 실행합니다.
+     * </p>
+     */
+    private <T> T journaled(Supplier<T> mutation, Consumer<T> record) {
+        if (journal == null) {
+            return mutation.get();
+        }
+        synchronized (journal) {
+            T result = mutation.get();
+            record.accept(result);
+            return result;
+        }
+    }
+
+    private void append(ChartDraft draft) {
+        Long userId = draft.userId();
+        Partition partition = partitions.get(userId);
+        if (partition == null) {
+            Partition created = new Partition();
+            partition = partitions.putIfAbsent(userId, created);
+            if (partition == null) {
+                partition = created;
+            }
+        }
+        partition.add(draft, maxPerUser);
+        // 정리 작업이 (비어 있던) 파티션을 방금 제거했다면 다시 연결하거나 새 파티션으로 옮김
+        if (partitions.get(userId) != partition) {
+            Partition orphan = partition;
+            partitions.compute(userId, (key, current) -> {
+                if (current == null) {
+                    return orphan;
+                }
+                if (current != orphan) {
+                    orphan.drainTo(current, maxPerUser);
+                }
+                return current;
+            });
+        }
+    }
+
+    private List<ChartDraft> snapshotAll() {
+        Instant cutoff = expiryCutoff();
+        List<ChartDraft> drafts = new ArrayList<>();
+        for (Partition partition : partitions.values()) {
+            drafts.addAll(partition.snapshot(cutoff));
+        }
+        drafts.sort(Comparator.comparingLong(ChartDraft::id));
+        return drafts;
+    }
+
+    private Instant expiryCutoff() {
+        return clock.instant().minus(ttl);
+    }
+
+    // 저장 후 호출자가 원본 DTO/맵을 수정해도 임시 저장에 영향이 없도록 복사
+    private static EsgChartDataDto copyOf(EsgChartDataDto dto) {
+        return EsgChartDataDto.builder()
+                .category(dto.getCategory())
+                .chartTitle(dto.getChartTitle())
+                .indicatorCode(dto.getIndicatorCode())
+                .indicatorInputs(dto.getIndicatorInputs() != null
+                        ? Collections.unmodifiableMap(new LinkedHashMap<>(dto.getIndicatorInputs()))
+                        : null)
+                .unit(dto.getUnit())
+                .build();
+    }
+
+    /**
+     * 사용자 한 명의 임시 저장 (저장 순서대로, 가장 오래된 항목이 앞)
+     */
+    private static final class Partition {
+
+        private final ConcurrentLinkedDeque<ChartDraft> drafts = new ConcurrentLinkedDeque<>();
+        // ConcurrentLinkedDeque.size()는 전체를 순회하므로 크기를 따로 관리
+        private final AtomicInteger size = new AtomicInteger();
+
+        void add(ChartDraft draft, int maxSize) {
+            drafts.addLast(draft);
+            if (size.incrementAndGet() > maxSize) {
+                trim(maxSize);
+            }
+        }
+
+        boolean remove(long draftId) {
+            boolean removed = drafts.removeIf(draft -> draft.id() == draftId);
+            if (removed) {
+                size.decrementAndGet();
+            }
+            return removed;
+        }
+
+        int evictBefore(Instant cutoff) {
+            int evicted = 0;
+            ChartDraft oldest;
+            while ((oldest = drafts.peekFirst()) != null && !oldest.savedAt().isAfter(cutoff)) {
+                if (drafts.removeFirstOccurrence(oldest)) {
+                    size.decrementAndGet();
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+
+        void drainTo(Partition target, int maxSize) {
+            ChartDraft draft;
+            while ((draft = drafts.pollFirst()) != null) {
+                size.decrementAndGet();
+                target.add(draft, maxSize);
+            }
+        }
+
+        int clear() {
+            int cleared = 0;
+            while (drafts.pollFirst() != null) {
+                size.decrementAndGet();
+                cleared++;
+            }
+            return cleared;
+        }
+
+        List<ChartDraft> snapshot(Instant cutoff) {
+            return drafts.stream()
+                    .filter(draft -> draft.savedAt().isAfter(cutoff))
+                    .sorted(Comparator.comparingLong(ChartDraft::id))
+                    .toList();
+        }
+
+        boolean isEmpty() {
+            return drafts.isEmpty();
+        }
+
+        int size() {
+            return Math.max(0, size.get());
+        }
+
+        // 여러 스레드가 동시에 초과분을 제거해도 maxSize보다 적게 남지 않도록 크기를 먼저 줄인 뒤 제거
+        private void trim(int maxSize) {
+            while (true) {
+                int current = size.get();
+                if (current <= maxSize) {
+                    return;
+                }
+                if (size.compareAndSet(current, current - 1)) {
+                    if (drafts.pollFirst() == null) {
+                        size.incrementAndGet();
+                        return;
+                    }
+                }
+            }
+        }
     }
 }
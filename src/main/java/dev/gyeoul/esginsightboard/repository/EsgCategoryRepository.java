@@ -1,10 +1,21 @@
 package dev.gyeoul.esginsightboard.repository;
 
 import dev.gyeoul.esginsightboard.entity.EsgCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
+// ESG 카테고리는 거의 변경되지 않는 기준 데이터이므로 조회 결과를 쿼리 캐시에 저장
 public interface EsgCategoryRepository extends JpaRepository<EsgCategory, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<EsgCategory> findByCategory(String category); // "E", "S", "G"로 카테고리 조회
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<EsgCategory> findAll();
 }
@@ -1,12 +1,22 @@
 package dev.gyeoul.esginsightboard.repository;
 
 import dev.gyeoul.esginsightboard.entity.EsgIndicator;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface EsgIndicatorRepository extends JpaRepository<EsgIndicator, Long> {
+// ESG 지표는 거의 변경되지 않는 기준 데이터이므로 조회 결과를 쿼리 캐시에 저장
+public interface EsgIndicatorRepository extends JpaRepository<EsgIndicator, String> {
 
     // 지표 코드 조회 (예: "301-1")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<EsgIndicator> findByIndicatorCode(String indicatorCode);
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<EsgIndicator> findAll();
 }
@@ -1,8 +1,58 @@
 package dev.gyeoul.esginsightboard.repository;
 
+import dev.gyeoul.esginsightboard.dto.EsgInputValueDto;
 import dev.gyeoul.esginsightboard.entity.EsgInputValue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface EsgInputValueRepository extends JpaRepository<EsgInputValue, Long> {
-    // 기본 CRUD 기능만 사용 시 추가 메서드 없이도 충분합니다
+import java.util.List;
+
+public interface EsgInputValueRepository extends JpaRepository<EsgInputValue, Long>, EsgInputValueRepositoryCustom {
+
+    /**
+     * 사용자가 입력한 지표의 보고 기간별 값을 조회합니다.
+     * <p>
+     * 지표/사용자/보고 기간이 유니크(uk_esg_input_value_period)하므로 기간마다 가장 최근에 저장된 값 하나만 반환되며,
+     * 같은 유니크 인덱스의 (indicator_id, user_id) 접두사로 조회합니다. 지표/사용자 테이블은 조인하지 않습니다.
+     * </p>
+     *
+     * @param indicatorCode 지표 코드
+     * @param userId 사용자 ID
+     * @return 보고 기간 시작일 오름차순 입력값 목록
+     */
+    @Query("SELECT new dev.gyeoul.esginsightboard.dto.EsgInputValueDto("
+            + "v.id, v.indicator.indicatorCode, v.reportingPeriodStart, v.reportingPeriodEnd, "
+            + "v.numericValue, v.textValue, v.unit, v.upDateAt) "
+            + "FROM EsgInputValue v "
+            + "WHERE v.indicator.indicatorCode = :indicatorCode AND v.user.id = :userId "
+            + "ORDER BY v.reportingPeriodStart")
+    List<EsgInputValueDto> findLatestValues(@Param("indicatorCode") String indicatorCode,
+                                            @Param("userId") Long userId);
+
+    /**
+     * 사용자가 입력한 지표 값을 보고 기간 최신순으로 페이지 단위 조회합니다.
+     * <p>
+     * 값이 많은 지표도 요청한 페이지만큼만 읽으며, findLatestValues와 같은 유니크 인덱스 접두사를 사용합니다.
+     * 정렬은 쿼리에 고정되어 있으므로 Pageable에는 페이지 번호와 크기만 지정합니다.
+     * </p>
+     *
+     * @param indicatorCode 지표 코드
+     * @param userId 사용자 ID
+     * @param pageable 페이지 번호/크기
+     * @return 입력값 페이지
+     */
+    @Query(value = "SELECT new dev.gyeoul.esginsightboard.dto.EsgInputValueDto("
+            + "v.id, v.indicator.indicatorCode, v.reportingPeriodStart, v.reportingPeriodEnd, "
+            + "v.numericValue, v.textValue, v.unit, v.upDateAt) "
+            + "FROM EsgInputValue v "
+            + "WHERE v.indicator.indicatorCode = :indicatorCode AND v.user.id = :userId "
+            + "ORDER BY v.reportingPeriodStart DESC, v.id DESC",
+            countQuery = "SELECT COUNT(v) FROM EsgInputValue v "
+                    + "WHERE v.indicator.indicatorCode = :indicatorCode AND v.user.id = :userId")
+    Page<EsgInputValueDto> findValuesPage(@Param("indicatorCode") String indicatorCode,
+                                          @Param("userId") Long userId,
+                                          Pageable pageable);
 }
@@ -0,0 +1,54 @@
+package dev.gyeoul.esginsightboard.repository;
+
+import dev.gyeoul.esginsightboard.dto.EsgTimeSeriesPoint;
+import dev.gyeoul.esginsightboard.dto.TimeBucket;
+import dev.gyeoul.esginsightboard.entity.EsgInputValue;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * EsgInputValue 대량 저장용 사용자 정의 리포지토리
+ * <p>
+ * 구현체는 {@link EsgInputValueRepositoryImpl}이며, Spring Data가 EsgInputValueRepository에 자동으로 합쳐줍니다.
+ * </p>
+ */
+public interface EsgInputValueRepositoryCustom {
+
+    /**
+     * 입력값들을 JDBC 배치 한 번으로 저장합니다. (upsert)
+     * <p>
+     * 같은 지표/사용자/보고 기간의 행이 이미 있으면 값(numericValue, textValue, unit)과 수정 일시만 갱신하고,
+     * 없으면 새로 추가합니다. (유니크 제약 uk_esg_input_value_period 기준)
+     * </p>
+     *
+     * <p>
+     * 영속성 컨텍스트를 거치지 않으므로 전달한 엔티티의 id는 채워지지 않으며,
+     * 지표(EsgIndicator)도 읽어오지 않습니다.
+     * </p>
+     *
+     * @param inputValues 저장할 입력값 목록 (indicator, user가 설정되어 있어야 함)
+     * @return 저장된 행 수
+     */
+    int upsertAll(List<EsgInputValue> inputValues);
+
+    /**
+     * 지표별 시계열 집계(합계/평균/최소/최대)를 SQL에서 계산합니다.
+     * <p>
+     * 여러 지표를 한 번의 쿼리로 집계하며, 보고 기간 시작일이 속한 연도/분기/월 단위로 묶습니다.
+     * 사용자 단위 조회는 유니크 인덱스 uk_esg_input_value_period (indicator_id, user_id, reporting_period_start, ...)를,
+     * 회사 단위 조회는 같은 인덱스의 indicator_id 접두사와 idx_users_company를 사용합니다.
+     * </p>
+     *
+     * @param indicatorCodes 지표 코드 목록 (비어 있으면 안 됨)
+     * @param userId 사용자 ID (companyId와 둘 중 하나만 지정)
+     * @param companyId 회사 ID - 회사 소속 사용자 전체의 값을 집계
+     * @param from 보고 기간 시작일 하한 (포함)
+     * @param to 보고 기간 시작일 상한 (포함)
+     * @param bucket 집계 단위
+     * @return 지표 코드, 구간 시작일 순으로 정렬된 집계값 목록 (값이 없는 구간은 포함되지 않음)
+     */
+    List<EsgTimeSeriesPoint> aggregateTimeSeries(Collection<String> indicatorCodes, Long userId, Long companyId,
+                                                 LocalDate from, LocalDate to, TimeBucket bucket);
+}
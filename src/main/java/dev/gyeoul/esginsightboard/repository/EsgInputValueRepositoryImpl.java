@@ -0,0 +1,153 @@
+package dev.gyeoul.esginsightboard.repository;
+
+import dev.gyeoul.esginsightboard.config.DatabasePlatform;
+import dev.gyeoul.esginsightboard.dto.EsgTimeSeriesPoint;
+import dev.gyeoul.esginsightboard.dto.TimeBucket;
+import dev.gyeoul.esginsightboard.entity.EsgInputValue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * EsgInputValue 대량 저장 구현
+ * <p>
+ * IDENTITY 키를 사용하는 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하고 행마다 한 번씩 실행하므로,
+ * JdbcTemplate.batchUpdate로 모든 행을 하나의 배치로 전송합니다.
+ * 호출한 쪽의 트랜잭션(JpaTransactionManager)과 같은 커넥션을 사용합니다.
+ * </p>
+ *
+ * <p>
+ * upsert 구문은 DB마다 다르므로 PostgreSQL은 INSERT ... ON CONFLICT, 그 외(H2)는 표준 MERGE를 사용합니다.
+ * 두 구문 모두 파라미터 순서는 같습니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class EsgInputValueRepositoryImpl implements EsgInputValueRepositoryCustom {
+
+    private static final String POSTGRESQL_UPSERT_SQL =
+            "INSERT INTO esg_input_value (indicator_id, user_id, numeric_value, text_value, unit, "
+            + "reporting_period_start, reporting_period_end, created_at, up_date_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (indicator_id, user_id, reporting_period_start, reporting_period_end) DO UPDATE SET "
+            + "numeric_value = EXCLUDED.numeric_value, text_value = EXCLUDED.text_value, "
+            + "unit = EXCLUDED.unit, up_date_at = EXCLUDED.up_date_at";
+
+    private static final String MERGE_UPSERT_SQL =
+            "MERGE INTO esg_input_value t USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS BIGINT), "
+            + "CAST(? AS DOUBLE PRECISION), CAST(? AS VARCHAR(1000)), CAST(? AS VARCHAR(255)), "
+            + "CAST(? AS DATE), CAST(? AS DATE), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))) "
+            + "AS s (indicator_id, user_id, numeric_value, text_value, unit, "
+            + "reporting_period_start, reporting_period_end, created_at, up_date_at) "
+            + "ON t.indicator_id = s.indicator_id AND t.user_id = s.user_id "
+            + "AND t.reporting_period_start = s.reporting_period_start "
+            + "AND t.reporting_period_end = s.reporting_period_end "
+            + "WHEN MATCHED THEN UPDATE SET numeric_value = s.numeric_value, text_value = s.text_value, "
+            + "unit = s.unit, up_date_at = s.up_date_at "
+            + "WHEN NOT MATCHED THEN INSERT (indicator_id, user_id, numeric_value, text_value, unit, "
+            + "reporting_period_start, reporting_period_end, created_at, up_date_at) "
+            + "VALUES (s.indicator_id, s.user_id, s.numeric_value, s.text_value, s.unit, "
+            + "s.reporting_period_start, s.reporting_period_end, s.created_at, s.up_date_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    @Override
+    public int upsertAll(List<EsgInputValue> inputValues) {
+        if (inputValues.isEmpty()) {
+            return 0;
+        }
+        String sql = databasePlatform.isPostgreSql() ? POSTGRESQL_UPSERT_SQL : MERGE_UPSERT_SQL;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // 배치 크기를 전체 행 수로 지정하여 한 번의 executeBatch로 전송
+        jdbcTemplate.batchUpdate(sql, inputValues, inputValues.size(), (ps, value) -> {
+            ps.setString(1, value.getIndicator().getIndicatorCode());
+            ps.setLong(2, value.getUser().getId());
+            if (value.getNumericValue() != null) {
+                ps.setDouble(3, value.getNumericValue());
+            } else {
+                ps.setNull(3, Types.DOUBLE);
+            }
+            ps.setString(4, value.getTextValue());
+            ps.setString(5, value.getUnit());
+            ps.setDate(6, toSqlDate(value.getReportingPeriodStart()));
+            ps.setDate(7, toSqlDate(value.getReportingPeriodEnd()));
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+        return inputValues.size();
+    }
+
+    @Override
+    public List<EsgTimeSeriesPoint> aggregateTimeSeries(Collection<String> indicatorCodes, Long userId, Long companyId,
+                                                        LocalDate from, LocalDate to, TimeBucket bucket) {
+        // EXTRACT(YEAR/QUARTER/MONTH FROM ...)는 PostgreSQL과 H2에서 같은 구문
+        String yearExpr = "EXTRACT(YEAR FROM v.reporting_period_start)";
+        String indexExpr = switch (bucket) {
+            case YEAR -> null;
+            case QUARTER -> "EXTRACT(QUARTER FROM v.reporting_period_start)";
+            case MONTH -> "EXTRACT(MONTH FROM v.reporting_period_start)";
+        };
+
+        List<Object> params = new ArrayList<>(indicatorCodes);
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT v.indicator_id, ").append(yearExpr).append(" AS bucket_year, ")
+                .append(indexExpr != null ? indexExpr : "1").append(" AS bucket_index, ")
+                .append("SUM(v.numeric_value) AS value_sum, AVG(v.numeric_value) AS value_avg, ")
+                .append("MIN(v.numeric_value) AS value_min, MAX(v.numeric_value) AS value_max, ")
+                .append("COUNT(v.numeric_value) AS value_count ")
+                .append("FROM esg_input_value v ");
+        if (companyId != null) {
+            sql.append("JOIN users u ON u.id = v.user_id ");
+        }
+        sql.append("WHERE v.indicator_id IN (")
+                .append(String.join(", ", Collections.nCopies(indicatorCodes.size(), "?")))
+                .append(") ");
+        if (companyId != null) {
+            sql.append("AND u.company_id = ? ");
+            params.add(companyId);
+        } else {
+            sql.append("AND v.user_id = ? ");
+            params.add(userId);
+        }
+        sql.append("AND v.reporting_period_start >= ? AND v.reporting_period_start <= ? ");
+        params.add(Date.valueOf(from));
+        params.add(Date.valueOf(to));
+
+        String groupBy = "v.indicator_id, " + yearExpr + (indexExpr != null ? ", " + indexExpr : "");
+        sql.append("GROUP BY ").append(groupBy).append(" ORDER BY ").append(groupBy);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            LocalDate periodStart = bucket.startOf(rs.getInt("bucket_year"), rs.getInt("bucket_index"));
+            return EsgTimeSeriesPoint.builder()
+                    .indicatorCode(rs.getString("indicator_id"))
+                    .periodStart(periodStart)
+                    .periodEnd(bucket.endOf(periodStart))
+                    .sum(getNullableDouble(rs, "value_sum"))
+                    .avg(getNullableDouble(rs, "value_avg"))
+                    .min(getNullableDouble(rs, "value_min"))
+                    .max(getNullableDouble(rs, "value_max"))
+                    .count(rs.getLong("value_count"))
+                    .build();
+        }, params.toArray());
+    }
+
+    private static Double getNullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Date toSqlDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
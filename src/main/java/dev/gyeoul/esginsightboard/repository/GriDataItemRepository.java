@@ -1,7 +1,13 @@
 package dev.gyeoul.esginsightboard.repository;
 
+import dev.gyeoul.esginsightboard.dto.GriDataItemSummary;
 import dev.gyeoul.esginsightboard.entity.GriDataItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,7 +22,36 @@ import java.util.List;
  * 사용되는 표준 지표들을 의미합니다.
  */
 @Repository
-public interface GriDataItemRepository extends JpaRepository<GriDataItem, Long> {
+public interface GriDataItemRepository extends JpaRepository<GriDataItem, Long>, JpaSpecificationExecutor<GriDataItem> {
+    
+    /**
+     * 요약 프로젝션({@link GriDataItemSummary})용 SELECT 절
+     * <p>
+     * 긴 텍스트 컬럼(disclosureValue, description)을 제외한 컬럼만 별칭과 함께 조회합니다.
+     * 회사가 없는 항목도 조회되도록 회사는 LEFT JOIN으로 연결합니다.
+     * </p>
+     */
+    String SUMMARY_SELECT = "SELECT g.id AS id, g.standardCode AS standardCode, g.disclosureCode AS disclosureCode, "
+            + "g.disclosureTitle AS disclosureTitle, g.numericValue AS numericValue, g.unit AS unit, "
+            + "g.reportingPeriodStart AS reportingPeriodStart, g.reportingPeriodEnd AS reportingPeriodEnd, "
+            + "g.verificationStatus AS verificationStatus, g.verificationProvider AS verificationProvider, "
+            + "g.category AS category, c.id AS companyId, c.name AS companyName, "
+            + "g.createdAt AS createdAt, g.updatedAt AS updatedAt "
+            + "FROM GriDataItem g LEFT JOIN g.company c ";
+    
+    /**
+     * 동적 검색 조건(Specification)과 페이지 정보로 GRI 데이터 항목을 조회
+     * <p>
+     * 회사 정보를 함께 가져오도록 EntityGraph를 지정하여, DTO 변환 시 회사별 추가 쿼리(N+1)가 발생하지 않습니다.
+     * </p>
+     * 
+     * @param spec 검색 조건 ({@link GriDataItemSpecifications} 참고)
+     * @param pageable 페이지 및 정렬 정보
+     * @return 조건에 해당하는 데이터 항목 페이지
+     */
+    @Override
+    @EntityGraph(attributePaths = "company")
+    Page<GriDataItem> findAll(Specification<GriDataItem> spec, Pageable pageable);
     
     /**
      * 지정된 범주(E, S, G)에 속하는 GRI 데이터 항목을 조회
@@ -83,8 +118,10 @@ public interface GriDataItemRepository extends JpaRepository<GriDataItem, Long>
     /**
      * 특정 보고 기간과 겹치는 GRI 데이터 항목을 조회
      * 
-     * 쿼리 조건: reportingPeriodStart <= endDate AND reportingPeriodEnd >= startDate
+     * 쿼리 조건: reportingPeriodStart <= endDate AND (reportingPeriodEnd >= startDate OR reportingPeriodEnd IS NULL)
      * 이는 두 기간이 서로 겹치는지 확인하는 표준 조건입니다.
+     * 보고 기간 종료일이 NULL이면 진행 중인 기간(무한대)으로 취급하며, PostgreSQL의 {@link #findItemsOverlappingPeriod}와 결과가 같습니다.
+     * PostgreSQL 연도 파티션에서는 reportingPeriodStart <= endDate 조건으로 endDate 이후 연도의 파티션이 제외됩니다.
      * 
      * @param endDate 조회 기간의 종료일
      * @param startDate 조회 기간의 시작일
@@ -94,9 +131,45 @@ public interface GriDataItemRepository extends JpaRepository<GriDataItem, Long>
      *             LocalDate.of(2023, 12, 31), LocalDate.of(2023, 1, 1))
      *          - 2023년 데이터 조회
      */
-    @Query("SELECT g FROM GriDataItem g WHERE g.reportingPeriodStart <= :endDate AND g.reportingPeriodEnd >= :startDate")
+    @Query("SELECT g FROM GriDataItem g WHERE g.reportingPeriodStart <= :endDate "
+            + "AND (g.reportingPeriodEnd >= :startDate OR g.reportingPeriodEnd IS NULL)")
     List<GriDataItem> findItemsByReportingPeriod(@Param("endDate") LocalDate endDate, @Param("startDate") LocalDate startDate);
     
+    /**
+     * 특정 보고 기간과 겹치는 GRI 데이터 항목을 daterange 연산으로 조회 (PostgreSQL 전용)
+     * 
+     * GiST 인덱스 idx_gri_period_range (V3 마이그레이션)를 사용하므로 양쪽 기간 경계를 모두 활용해 탐색합니다.
+     * 보고 기간 종료일이 NULL이면 무한대로 취급하며, 시작일이 NULL인 항목은 제외합니다.
+     * reporting_period_start <= endDate 조건은 연도 파티션 프루닝(endDate 이후 연도 제외)을 위해 함께 지정합니다.
+     * 
+     * @param startDate 조회 기간의 시작일
+     * @param endDate 조회 기간의 종료일 (startDate 이후여야 함)
+     * @return 지정된 기간과 겹치는 보고 기간을 가진 데이터 항목 목록
+     */
+    @Query(value = "SELECT g.* FROM gri_data_items g "
+            + "WHERE g.reporting_period_start <= :endDate "
+            + "AND daterange(g.reporting_period_start, g.reporting_period_end, '[]') && daterange(:startDate, :endDate, '[]')",
+            nativeQuery = true)
+    List<GriDataItem> findItemsOverlappingPeriod(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    /**
+     * 보고 시작일이 지정한 구간에 속하는 GRI 데이터 항목을 조회
+     * 
+     * 쿼리 조건: fromDate <= reportingPeriodStart < toDate
+     * 파티션 키(reporting_period_start)만으로 구간을 지정하므로 PostgreSQL에서는
+     * 해당 연도의 파티션만 조회합니다. (파티션 프루닝)
+     * 
+     * @param fromDate 구간 시작일 (포함)
+     * @param toDate 구간 종료일 (제외)
+     * @return 보고 시작일이 구간에 속하는 데이터 항목 목록
+     * 
+     * 사용 예시: repository.findItemsByReportingStartRange(
+     *             LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1))
+     *          - 2023년에 시작하는 보고 기간의 데이터 조회
+     */
+    @Query("SELECT g FROM GriDataItem g WHERE g.reportingPeriodStart >= :fromDate AND g.reportingPeriodStart < :toDate")
+    List<GriDataItem> findItemsByReportingStartRange(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+    
     /**
      * 이전 메서드명: findByReportingPeriodStartLessThanEqualAndReportingPeriodEndGreaterThanEqual
      * 기존 호출 코드와의 호환성을 위해 유지 (신규 코드에서는 findItemsByReportingPeriod 사용 권장)
@@ -108,4 +181,42 @@ public interface GriDataItemRepository extends JpaRepository<GriDataItem, Long>
             LocalDate endDate, LocalDate startDate) {
         return findItemsByReportingPeriod(endDate, startDate);
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 모든 GRI 데이터 항목을 요약 프로젝션으로 조회 (긴 텍스트 컬럼 제외)
+     * 
+     * @return 요약 프로젝션 목록
+     */
+    @Query(SUMMARY_SELECT)
+    List<GriDataItemSummary> findAllSummaries();
+    
+    /**
+     * 범주별 GRI 데이터 항목을 요약 프로젝션으로 조회
+     * 
+     * @param category ESG 범주
+     * @return 요약 프로젝션 목록
+     */
+    @Query(SUMMARY_SELECT + "WHERE g.category = :category")
+    List<GriDataItemSummary> findSummariesByCategory(@Param("category") String category);
+    
+    /**
+     * 검증 상태별 GRI 데이터 항목을 요약 프로젝션으로 조회
+     * 
+     * @param verificationStatus 검증 상태
+     * @return 요약 프로젝션 목록
+     */
+    @Query(SUMMARY_SELECT + "WHERE g.verificationStatus = :verificationStatus")
+    List<GriDataItemSummary> findSummariesByVerificationStatus(@Param("verificationStatus") String verificationStatus);
+    
+    /**
+     * 특정 보고 기간과 겹치는 GRI 데이터 항목을 요약 프로젝션으로 조회
+     * 
+     * @param endDate 조회 기간의 종료일
+     * @param startDate 조회 기간의 시작일
+     * @return 요약 프로젝션 목록
+     * @see #findItemsByReportingPeriod(LocalDate, LocalDate)
+     */
+    @Query(SUMMARY_SELECT + "WHERE g.reportingPeriodStart <= :endDate "
+            + "AND (g.reportingPeriodEnd >= :startDate OR g.reportingPeriodEnd IS NULL)")
+    List<GriDataItemSummary> findSummariesByReportingPeriod(@Param("endDate") LocalDate endDate, @Param("startDate") LocalDate startDate);
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package dev.gyeoul.esginsightboard.repository;
+
+import dev.gyeoul.esginsightboard.dto.GriDataItemSearchCondition;
+import dev.gyeoul.esginsightboard.entity.GriDataItem;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * GRI 데이터 항목 동적 검색 조건(Specification) 모음
+ * <p>
+ * 각 메서드는 조건 값이 비어 있으면 null을 반환하며, {@link Specification#where(Specification)}와
+ * {@code and()} 조합 시 null 조건은 무시됩니다. 따라서 모든 조건이 하나의 WHERE 절로 SQL에 전달됩니다.
+ * </p>
+ */
+public final class GriDataItemSpecifications {
+
+    private GriDataItemSpecifications() {
+    }
+
+    /**
+     * 검색 조건 DTO로부터 전체 Specification을 생성
+     *
+     * @param condition 검색 조건 (null 가능)
+     * @return 모든 조건을 AND로 결합한 Specification
+     */
+    public static Specification<GriDataItem> fromCondition(GriDataItemSearchCondition condition) {
+        if (condition == null) {
+            return Specification.where(null);
+        }
+        return Specification.where(categoryIn(condition.getCategories()))
+                .and(standardCodeIn(condition.getStandardCodes()))
+                .and(disclosureCodeIn(condition.getDisclosureCodes()))
+                .and(verificationStatusIn(condition.getVerificationStatuses()))
+                .and(companyIdIn(condition.getCompanyIds()))
+                .and(reportingPeriodOverlaps(condition.getPeriodStart(), condition.getPeriodEnd()));
+    }
+
+    public static Specification<GriDataItem> categoryIn(Collection<String> categories) {
+        return attributeIn("category", categories);
+    }
+
+    public static Specification<GriDataItem> standardCodeIn(Collection<String> standardCodes) {
+        return attributeIn("standardCode", standardCodes);
+    }
+
+    public static Specification<GriDataItem> disclosureCodeIn(Collection<String> disclosureCodes) {
+        return attributeIn("disclosureCode", disclosureCodes);
+    }
+
+    public static Specification<GriDataItem> verificationStatusIn(Collection<String> statuses) {
+        return attributeIn("verificationStatus", statuses);
+    }
+
+    /**
+     * 회사 ID 조건 (company_id 외래 키 컬럼을 직접 비교하므로 companies 테이블과 조인하지 않음)
+     */
+    public static Specification<GriDataItem> companyIdIn(Collection<Long> companyIds) {
+        if (companyIds == null || companyIds.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get("company").get("id").in(companyIds);
+    }
+
+    /**
+     * 보고 기간 겹침 조건
+     * <p>
+     * {@link GriDataItemRepository#findItemsByReportingPeriod(LocalDate, LocalDate)}와 동일하게
+     * reportingPeriodStart &lt;= periodEnd AND (reportingPeriodEnd &gt;= periodStart OR reportingPeriodEnd IS NULL) 조건을 사용합니다.
+     * (보고 기간 종료일이 NULL이면 진행 중인 기간으로 취급)
+     * 한쪽 경계만 주어지면 해당 경계만 적용합니다.
+     * </p>
+     */
+    public static Specification<GriDataItem> reportingPeriodOverlaps(LocalDate periodStart, LocalDate periodEnd) {
+        if (periodStart == null && periodEnd == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (periodStart == null) {
+                return cb.lessThanOrEqualTo(root.get("reportingPeriodStart"), periodEnd);
+            }
+            Predicate endsAfterStart = cb.or(
+                    cb.greaterThanOrEqualTo(root.get("reportingPeriodEnd"), periodStart),
+                    cb.isNull(root.get("reportingPeriodEnd")));
+            if (periodEnd == null) {
+                return endsAfterStart;
+            }
+            return cb.and(cb.lessThanOrEqualTo(root.get("reportingPeriodStart"), periodEnd), endsAfterStart);
+        };
+    }
+
+    private static Specification<GriDataItem> attributeIn(String attribute, Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        if (values.size() == 1) {
+            String value = values.iterator().next();
+            return (root, query, cb) -> cb.equal(root.get(attribute), value);
+        }
+        return (root, query, cb) -> root.get(attribute).in(values);
+    }
+}
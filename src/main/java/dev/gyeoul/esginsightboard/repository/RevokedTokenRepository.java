@@ -0,0 +1,34 @@
+package dev.gyeoul.esginsightboard.repository;
+
+import dev.gyeoul.esginsightboard.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 목록을 조회합니다.
+     *
+     * @param now 기준 시각
+     * @return 만료 전 폐기 토큰 목록
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<RevokedToken> findActive(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료 시각이 지난 폐기 토큰을 삭제합니다.
+     *
+     * @param now 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
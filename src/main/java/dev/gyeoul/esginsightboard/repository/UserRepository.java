@@ -2,6 +2,9 @@ package dev.gyeoul.esginsightboard.repository;
 
 import dev.gyeoul.esginsightboard.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -24,4 +27,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 존재 여부
      */
     boolean existsByEmail(String email);
+    
+    /**
+     * 사용자의 현재 토큰 버전을 조회합니다.
+     *
+     * @param id 사용자 ID
+     * @return 토큰 버전 (사용자가 없으면 빈 값)
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+    
+    /**
+     * 사용자의 토큰 버전을 1 증가시킵니다. (이전에 발급된 토큰 무효화)
+     *
+     * @param id 사용자 ID
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
 } 
\ No newline at end of file
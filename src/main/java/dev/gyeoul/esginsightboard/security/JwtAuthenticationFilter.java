@@ -2,8 +2,12 @@ package dev.gyeoul.esginsightboard.security;
 
 import dev.gyeoul.esginsightboard.config.JwtConfig;
 import dev.gyeoul.esginsightboard.dto.UserDto;
+import dev.gyeoul.esginsightboard.service.TokenRevocationService;
+import dev.gyeoul.esginsightboard.service.TokenVersionService;
 import dev.gyeoul.esginsightboard.service.UserService;
 import dev.gyeoul.esginsightboard.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,54 +24,68 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Optional;
-import java.util.List;
-import java.util.Arrays;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * 검증된 토큰 원문과 클레임을 보관하는 요청 속성 이름
+     */
+    public static final String TOKEN_ATTRIBUTE = "jwtToken";
+    public static final String CLAIMS_ATTRIBUTE = "jwtClaims";
+
     private final UserService userService;
     private final JwtTokenUtil jwtTokenUtil;
     private final JwtConfig jwtConfig;
+    private final TokenVersionService tokenVersionService;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
-    private static final List<String> EXCLUDED_PATHS = Arrays.asList(
-        "/swagger-ui", 
-        "/api-docs", 
-        "/v3/api-docs",
-        "/api/users/test-token",
-        "/api/users/login",
-        "/api/users/signup"
-    );
+    /**
+     * 공개 경로(PublicPaths)는 토큰을 확인하지 않고 통과시킵니다.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicPaths.matches(PathPatternSet.pathWithinApplication(request));
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // 화이트리스트 경로 확인
-        String requestPath = request.getRequestURI();
-        if (EXCLUDED_PATHS.stream().anyMatch(requestPath::contains)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         // 헤더에서 JWT 토큰 추출
         final String authHeader = request.getHeader(jwtConfig.getHeader());
         log.debug("요청 헤더: {}", authHeader);
 
         String email = null;
-        String jwtToken = null;
+        Claims claims = null;
 
-        // JWT 토큰 파싱 (Bearer 접두사 제거)
+        // JWT 토큰 파싱 (Bearer 접두사 제거) - 서명 검증은 요청당 한 번만 수행
         if (authHeader != null && authHeader.startsWith(jwtConfig.getPrefix())) {
-            jwtToken = authHeader.substring(jwtConfig.getPrefix().length());
-            log.debug("파싱된 토큰: {}", jwtToken);
+            String jwtToken = authHeader.substring(jwtConfig.getPrefix().length()).trim();
 
             try {
-                email = jwtTokenUtil.getEmailFromToken(jwtToken);
-                log.debug("토큰에서 추출한 이메일: {}", email);
-            } catch (Exception e) {
+                // 검증 결과 캐시에 있으면 서명 검증 생략 (jwt.token-cache.enabled=true 인 경우)
+                claims = verifiedTokenCache.getIfPresent(jwtToken);
+                if (claims == null) {
+                    claims = jwtTokenVerifier.verify(jwtToken);
+                    verifiedTokenCache.put(jwtToken, claims);
+                }
+                // 폐기된 토큰 거부 (메모리 블룸 필터 + 집합 조회, DB 조회 없음)
+                if (tokenRevocationService.isRevoked(claims.getId())) {
+                    log.warn("폐기된 토큰입니다: jti={}", claims.getId());
+                    claims = null;
+                } else {
+                    email = claims.getSubject();
+                    log.debug("토큰에서 추출한 이메일: {}", email);
+                    // 로그아웃 시 현재 토큰을 폐기할 수 있도록 요청에 보관
+                    request.setAttribute(TOKEN_ATTRIBUTE, jwtToken);
+                    request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+                }
+            } catch (JwtException | IllegalArgumentException e) {
                 log.warn("토큰을 파싱할 수 없습니다: {}", e.getMessage());
             }
         } else {
@@ -76,7 +94,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // 이메일을 얻었고, 현재 인증된 사용자가 없는 경우에만 처리
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            authenticateUser(request, email, jwtToken);
+            if (jwtConfig.isClaimsAuthEnabled()) {
+                authenticateWithClaims(request, email, claims);
+            } else {
+                authenticateUser(request, email);
+            }
         }
 
         // 테스트 사용자 특별 처리
@@ -88,12 +110,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * 사용자 인증 처리
+     * 사용자 인증 처리 (서명 검증이 끝난 토큰의 이메일로 DB에서 사용자 조회)
      */
-    private void authenticateUser(HttpServletRequest request, String email, String jwtToken) {
+    private void authenticateUser(HttpServletRequest request, String email) {
         Optional<UserDto> userOptional = userService.getUserByEmail(email);
 
-        if (userOptional.isPresent() && jwtTokenUtil.validateToken(jwtToken)) {
+        if (userOptional.isPresent()) {
             UserDto userDto = userOptional.get();
             UsernamePasswordAuthenticationToken authentication = createAuthToken(userDto);
             
@@ -104,10 +126,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             request.setAttribute("user", userDto);
             log.info("사용자 '{}' 인증 성공", email);
         } else {
-            log.warn("유효하지 않은 토큰이거나 사용자를 찾을 수 없습니다: {}", email);
+            log.warn("사용자를 찾을 수 없습니다: {}", email);
         }
     }
 
+    /**
+     * 클레임 기반 사용자 인증 처리
+     * <p>
+     * users 테이블을 조회하지 않고 검증된 JWT 클레임으로 사용자 정보를 만듭니다.
+     * 토큰의 버전("ver" 클레임)이 사용자의 현재 토큰 버전과 다르면 인증하지 않습니다.
+     * </p>
+     */
+    private void authenticateWithClaims(HttpServletRequest request, String email, Claims claims) {
+        UserDto userDto = jwtTokenUtil.getUserFromClaims(claims);
+        if (!tokenVersionService.isCurrent(userDto.getId(), jwtTokenUtil.getTokenVersion(claims))) {
+            log.warn("만료된 토큰 버전이거나 사용자를 찾을 수 없습니다: {}", email);
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authentication = createAuthToken(userDto);
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // 이전 버전과의 호환성을 위해 request에도 사용자 정보 설정
+        request.setAttribute("user", userDto);
+        log.debug("사용자 '{}' 인증 성공 (클레임 기반)", email);
+    }
+
     /**
      * 테스트 사용자 인증 처리
      */
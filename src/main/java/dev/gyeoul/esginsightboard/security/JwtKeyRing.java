@@ -0,0 +1,202 @@
+package dev.gyeoul.esginsightboard.security;
+
+import dev.gyeoul.esginsightboard.config.JwtConfig;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 목록 (kid → 키)
+ * <p>
+ * 토큰은 발급 시점의 활성 키로 서명되고 헤더에 kid가 기록되며,
+ * 검증 시에는 토큰의 kid로 메모리의 키 목록에서 키를 찾습니다.
+ * 여러 서버가 같은 키 저장소 파일을 사용하면 어느 서버에서 발급한 토큰이든 검증할 수 있습니다.
+ * </p>
+ *
+ * <p>
+ * 키 저장소(jwt.keystore.path)는 PKCS12 파일이며, 각 비밀 키 항목의 별칭(alias)이 kid가 됩니다.
+ * <pre>
+ * keytool -genseckey -alias 2025-01 -keyalg HmacSHA512 -keysize 512 \
+ *         -storetype PKCS12 -keystore jwt-keys.p12
+ * </pre>
+ * 파일은 jwt.keystore.reload-interval-ms 주기로 변경 여부를 확인하여 다시 읽습니다.
+ * 키 교체는 새 키를 추가하는 것으로 충분합니다. 활성 키는 jwt.keystore.active-kid가 없으면
+ * 가장 최근에 생성된 항목이 되며, 이전 키는 저장소에서 지울 때까지 기존 토큰 검증에 계속 사용됩니다.
+ * </p>
+ *
+ * <p>
+ * 키 저장소를 설정하지 않으면 jwt.secret(JwtConfig)의 키 하나를 kid "default"로 사용합니다.
+ * jwt.secret이 설정되어 있으면 kid가 없는 이전 토큰 검증을 위해 키 저장소와 함께 "default"로 등록됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    /**
+     * kid가 없는 토큰(키 링 도입 이전 발급)과 jwt.secret 키에 사용하는 kid
+     */
+    public static final String DEFAULT_KID = "default";
+
+    private final JwtConfig jwtConfig;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final String keystorePath;
+    private final char[] keystorePassword;
+    private final String configuredActiveKid;
+
+    private volatile KeySet keySet;
+    private volatile long keystoreLastModified;
+
+    public JwtKeyRing(JwtConfig jwtConfig,
+                      VerifiedTokenCache verifiedTokenCache,
+                      @Value("${jwt.keystore.path:}") String keystorePath,
+                      @Value("${jwt.keystore.password:}") String keystorePassword,
+                      @Value("${jwt.keystore.active-kid:}") String activeKid) {
+        this.jwtConfig = jwtConfig;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.keystorePath = keystorePath;
+        this.keystorePassword = keystorePassword.toCharArray();
+        this.configuredActiveKid = activeKid;
+    }
+
+    @PostConstruct
+    void init() {
+        if (!isKeystoreConfigured()) {
+            keySet = new KeySet(Map.of(DEFAULT_KID, jwtConfig.secretKey()), DEFAULT_KID);
+            log.info("JWT 키 저장소가 설정되지 않아 jwt.secret 키를 사용합니다.");
+            return;
+        }
+        try {
+            reload();
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 키 저장소를 읽을 수 없습니다: " + keystorePath, e);
+        }
+    }
+
+    /**
+     * 서명에 사용할 활성 키의 kid
+     */
+    public String getActiveKid() {
+        return keySet.activeKid;
+    }
+
+    /**
+     * kid로 검증 키를 찾습니다.
+     *
+     * @param kid 토큰 헤더의 kid (없으면 "default")
+     * @return 검증 키
+     * @throws UnsupportedJwtException 해당 kid의 키가 없는 경우 발생
+     */
+    public SecretKey resolve(String kid) {
+        SecretKey key = keySet.keys.get(kid != null ? kid : DEFAULT_KID);
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 서명 키입니다: kid=" + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 키 저장소 파일이 변경되었으면 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keystore.reload-interval-ms:60000}",
+            initialDelayString = "${jwt.keystore.reload-interval-ms:60000}")
+    public void reloadIfModified() {
+        if (!isKeystoreConfigured()) {
+            return;
+        }
+        try {
+            if (Files.getLastModifiedTime(Path.of(keystorePath)).toMillis() != keystoreLastModified) {
+                reload();
+            }
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            // 파일 교체 도중 등 일시적인 오류는 기존 키를 유지하고 다음 주기에 다시 시도
+            log.warn("JWT 키 저장소 갱신 실패 (기존 키 유지): {}", e.getMessage());
+        }
+    }
+
+    private synchronized void reload() throws IOException, GeneralSecurityException {
+        Path path = Path.of(keystorePath);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = Files.newInputStream(path)) {
+            keyStore.load(in, keystorePassword);
+        }
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        String newestKid = null;
+        Date newestDate = null;
+        for (String alias : Collections.list(keyStore.aliases())) {
+            if (!keyStore.isKeyEntry(alias)) {
+                continue;
+            }
+            Key key = keyStore.getKey(alias, keystorePassword);
+            if (!(key instanceof SecretKey)) {
+                continue;
+            }
+            keys.put(alias, Keys.hmacShaKeyFor(key.getEncoded()));
+            Date created = keyStore.getCreationDate(alias);
+            if (newestDate == null || (created != null && created.after(newestDate))) {
+                newestKid = alias;
+                newestDate = created;
+            }
+        }
+        if (hasText(jwtConfig.getSecretKeyString())) {
+            keys.putIfAbsent(DEFAULT_KID, jwtConfig.secretKey());
+        }
+
+        String activeKid = hasText(configuredActiveKid) ? configuredActiveKid : newestKid;
+        if (activeKid == null || !keys.containsKey(activeKid)) {
+            throw new IllegalStateException("JWT 활성 서명 키를 찾을 수 없습니다: " + activeKid);
+        }
+
+        KeySet previous = keySet;
+        keySet = new KeySet(Map.copyOf(keys), activeKid);
+        keystoreLastModified = lastModified;
+
+        // 제거되거나 바뀐 키로 검증된 토큰이 캐시에 남지 않도록 초기화
+        if (previous != null && !keys.equals(previous.keys)) {
+            verifiedTokenCache.invalidateAll();
+        }
+        log.info("JWT 서명 키 {}개 로드 (활성 kid: {})", keys.size(), activeKid);
+    }
+
+    private boolean isKeystoreConfigured() {
+        return hasText(keystorePath);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * 한 번에 교체되는 키 목록과 활성 kid
+     */
+    private static final class KeySet {
+
+        private final Map<String, SecretKey> keys;
+        private final String activeKid;
+
+        private KeySet(Map<String, SecretKey> keys, String activeKid) {
+            this.keys = keys;
+            this.activeKid = activeKid;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package dev.gyeoul.esginsightboard.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+
+/**
+ * JWT 서명 검증 컴포넌트
+ * <p>
+ * JwtParser는 생성 비용이 있고 스레드 안전하므로 애플리케이션 시작 시 한 번만 만들어 재사용합니다.
+ * {@link #verify(String)}는 서명과 만료를 한 번에 검증하고 클레임을 반환하므로,
+ * 호출자는 같은 토큰을 다시 파싱하지 않고 반환된 클레임에서 subject 등 필요한 값을 꺼내 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 검증 키는 토큰 헤더의 kid로 {@link JwtKeyRing}에서 찾으므로, 키가 교체되어도 파서를 다시 만들 필요가 없습니다.
+ * </p>
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private final JwtParser jwtParser;
+
+    public JwtTokenVerifier(JwtKeyRing keyRing) {
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.resolve(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 토큰의 HS512 서명과 만료 시간을 검증하고 클레임을 반환합니다.
+     *
+     * @param token JWT 토큰 (Bearer 접두사 제외)
+     * @return 검증된 클레임
+     * @throws JwtException 서명이 올바르지 않거나, 만료되었거나, HS512가 아니거나, kid에 해당하는 키가 없는 경우 발생
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우 발생
+     */
+    public Claims verify(String token) {
+        Jws<Claims> jws = jwtParser.parseClaimsJws(token);
+        if (!SignatureAlgorithm.HS512.getValue().equals(jws.getHeader().getAlgorithm())) {
+            throw new UnsupportedJwtException("지원하지 않는 서명 알고리즘입니다: " + jws.getHeader().getAlgorithm());
+        }
+        return jws.getBody();
+    }
+}
@@ -0,0 +1,104 @@
+package dev.gyeoul.esginsightboard.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 미리 컴파일된 경로 패턴 집합
+ * <p>
+ * Spring Security의 Ant 스타일 중 두 가지 형태만 지원합니다.
+ * <ul>
+ *   <li>{@code /api/users/login} - 정확히 일치하는 경로</li>
+ *   <li>{@code /swagger-ui/**} - 해당 경로 자체 또는 그 하위 경로</li>
+ * </ul>
+ * 생성 시 정확한 경로 집합과 접두사 배열로 나누어 두므로,
+ * {@link #matches(String)}는 요청마다 객체를 만들지 않고 해시 조회와 접두사 비교만 수행합니다.
+ * </p>
+ */
+public final class PathPatternSet {
+
+    private static final String SUBTREE_SUFFIX = "/**";
+
+    private final Set<String> exactPaths;
+    private final String[] subtreePrefixes;
+
+    private PathPatternSet(Set<String> exactPaths, String[] subtreePrefixes) {
+        this.exactPaths = exactPaths;
+        this.subtreePrefixes = subtreePrefixes;
+    }
+
+    /**
+     * 패턴 목록을 컴파일합니다.
+     *
+     * @param patterns 경로 패턴 목록
+     * @return 경로 패턴 집합
+     * @throws IllegalArgumentException 지원하지 않는 와일드카드가 포함된 경우 발생
+     */
+    public static PathPatternSet of(Collection<String> patterns) {
+        List<String> exact = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        for (String pattern : patterns) {
+            if (pattern.endsWith(SUBTREE_SUFFIX)) {
+                prefixes.add(pattern.substring(0, pattern.length() - SUBTREE_SUFFIX.length()));
+            } else {
+                exact.add(pattern);
+            }
+        }
+        for (String path : exact) {
+            if (path.contains("*") || path.contains("{")) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다: " + path);
+            }
+        }
+        return new PathPatternSet(Set.copyOf(exact), prefixes.toArray(new String[0]));
+    }
+
+    /**
+     * 패턴 목록을 컴파일합니다.
+     *
+     * @param patterns 경로 패턴 목록
+     * @return 경로 패턴 집합
+     */
+    public static PathPatternSet of(String... patterns) {
+        return of(List.of(patterns));
+    }
+
+    /**
+     * 경로가 패턴 중 하나와 일치하는지 확인합니다.
+     *
+     * @param path 컨텍스트 경로를 제외한 요청 경로 (예: "/api/users/login")
+     * @return 일치 여부
+     */
+    public boolean matches(String path) {
+        if (path == null || path.isEmpty()) {
+            return false;
+        }
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        for (String prefix : subtreePrefixes) {
+            // "/swagger-ui/**"는 "/swagger-ui"와 "/swagger-ui/..."에만 일치 ("/swagger-uix"는 제외)
+            if (path.startsWith(prefix)
+                    && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청 URI에서 컨텍스트 경로를 제외한 경로를 반환합니다.
+     *
+     * @param request HTTP 요청
+     * @return 애플리케이션 내 요청 경로
+     */
+    public static String pathWithinApplication(HttpServletRequest request) {
+        String requestUri = request.getRequestURI();
+        int contextPathLength = request.getContextPath().length();
+        // 컨텍스트 경로가 없는 일반적인 경우에는 문자열을 새로 만들지 않음
+        return contextPathLength == 0 ? requestUri : requestUri.substring(contextPathLength);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.gyeoul.esginsightboard.security;
+
+/**
+ * 인증 없이 접근 가능한 경로 목록
+ * <p>
+ * SecurityConfig의 permitAll 설정과 JwtAuthenticationFilter의 필터 제외 판단이 같은 목록을 사용하므로
+ * 두 설정이 서로 달라지지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 패턴은 클래스 로딩 시 {@link PathPatternSet}으로 컴파일되므로 {@link #matches(String)}는 요청마다 객체를 만들지 않습니다.
+ * (이전 방식인 {@code contains} 비교는 "/foo/api/users/login"처럼 목록 경로를 포함하기만 해도 제외되는 문제가 있었음)
+ * </p>
+ */
+public final class PublicPaths {
+
+    private static final String[] PATTERNS = {
+            "/api/users/login",
+            "/api/users/signup",
+            "/api/users/test-token",
+            "/api/users/token-test",
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/swagger-resources/**",
+            "/api-docs/**",
+            "/h2-console/**",
+    };
+
+    private static final PathPatternSet MATCHER = PathPatternSet.of(PATTERNS);
+
+    private PublicPaths() {
+    }
+
+    /**
+     * Spring Security requestMatchers에 전달할 Ant 스타일 패턴 목록
+     *
+     * @return 패턴 배열 (복사본)
+     */
+    public static String[] patterns() {
+        return PATTERNS.clone();
+    }
+
+    /**
+     * 경로가 공개 경로인지 확인합니다.
+     *
+     * @param path 컨텍스트 경로를 제외한 요청 경로 (예: "/api/users/login")
+     * @return 공개 경로 여부
+     */
+    public static boolean matches(String path) {
+        return MATCHER.matches(path);
+    }
+}
@@ -0,0 +1,138 @@
+package dev.gyeoul.esginsightboard.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.config.RateLimitProperties;
+import dev.gyeoul.esginsightboard.dto.UserDto;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 속도 제한 필터
+ * <p>
+ * rate-limit.groups에 설정된 경로 그룹별로 사용자 또는 IP 단위 토큰 버킷({@link RateLimiter})을 적용하고,
+ * 허용량을 넘으면 HTTP 429와 Retry-After 헤더를 반환합니다.
+ * JwtAuthenticationFilter 다음에 실행되므로, key: user 그룹은 인증된 사용자 ID로 버킷을 구분합니다.
+ * </p>
+ *
+ * <p>
+ * 클라이언트 IP는 {@code request.getRemoteAddr()}를 사용합니다.
+ * 프록시/로드밸런서 뒤에서 실행할 경우 server.forward-headers-strategy를 설정해야 실제 클라이언트 IP로 구분됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<CompiledGroup> groups;
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.groups = compile(properties.getGroups());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || groups.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        CompiledGroup group = findGroup(request);
+        if (group != null) {
+            String key = group.name() + ':' + resolveClientKey(request, group.keyType());
+            long waitNanos = rateLimiter.tryAcquire(key, group.capacity(), group.emissionIntervalNanos());
+            if (waitNanos > 0) {
+                log.warn("요청 속도 제한 초과: group={}, key={}", group.name(), key);
+                writeTooManyRequests(response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private CompiledGroup findGroup(HttpServletRequest request) {
+        String path = PathPatternSet.pathWithinApplication(request);
+        String method = request.getMethod();
+        for (CompiledGroup group : groups) {
+            if ((group.methods().isEmpty() || group.methods().contains(method)) && group.paths().matches(path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private String resolveClientKey(HttpServletRequest request, RateLimitProperties.KeyType keyType) {
+        if (keyType == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserDto user && user.getId() != null) {
+                return "user:" + user.getId();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", "요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        errorResponse.put("error", "TOO_MANY_REQUESTS");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static List<CompiledGroup> compile(Map<String, RateLimitProperties.Group> groups) {
+        List<CompiledGroup> compiled = new ArrayList<>();
+        groups.forEach((name, group) -> {
+            if (group.getCapacity() <= 0 || group.getPeriod().isZero() || group.getPeriod().isNegative()) {
+                throw new IllegalArgumentException("잘못된 속도 제한 설정입니다: rate-limit.groups." + name);
+            }
+            Set<String> methods = Set.copyOf(group.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .toList());
+            long emissionIntervalNanos = Math.max(1, group.getPeriod().toNanos() / group.getCapacity());
+            compiled.add(new CompiledGroup(name, PathPatternSet.of(group.getPaths()), methods,
+                    group.getKey(), group.getCapacity(), emissionIntervalNanos));
+        });
+        return List.copyOf(compiled);
+    }
+
+    /**
+     * 설정을 요청 처리용으로 변환한 경로 그룹
+     */
+    private record CompiledGroup(String name, PathPatternSet paths, Set<String> methods,
+                                 RateLimitProperties.KeyType keyType, int capacity, long emissionIntervalNanos) {
+    }
+}
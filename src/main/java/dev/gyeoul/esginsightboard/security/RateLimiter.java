@@ -0,0 +1,116 @@
+package dev.gyeoul.esginsightboard.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(그룹 + 사용자/IP)별 토큰 버킷 저장소
+ * <p>
+ * 각 버킷은 GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 요청이 허용되는 이론상 시각(TAT)" 하나만
+ * AtomicLong에 저장하며, 토큰 소비는 CAS로 처리하므로 잠금이 없습니다.
+ * 버킷 조회도 ConcurrentHashMap의 잠금 없는 get으로 처리하고, 새 키일 때만 putIfAbsent를 사용합니다.
+ * </p>
+ *
+ * <p>
+ * 토큰이 모두 다시 채워진 버킷은 새로 만든 버킷과 상태가 같으므로,
+ * rate-limit.idle-eviction-interval-ms 주기로 제거하여 메모리 사용량을 활동 중인 클라이언트 수로 제한합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final ConcurrentMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoTime;
+
+    public RateLimiter() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param nanoTime 현재 시각(나노초) 공급자 (테스트에서 시간을 직접 진행시키기 위해 사용)
+     */
+    RateLimiter(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * 토큰 하나를 소비합니다.
+     *
+     * @param key 버킷 키
+     * @param capacity 순간적으로 허용되는 최대 요청 수
+     * @param emissionIntervalNanos 토큰 하나가 채워지는 데 걸리는 시간(나노초)
+     * @return 허용되면 0, 거부되면 다음 요청이 허용될 때까지 남은 시간(나노초)
+     */
+    public long tryAcquire(String key, int capacity, long emissionIntervalNanos) {
+        long now = nanoTime.getAsLong();
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            Bucket created = new Bucket(now);
+            bucket = buckets.putIfAbsent(key, created);
+            if (bucket == null) {
+                bucket = created;
+            }
+        }
+        return bucket.tryAcquire(now, emissionIntervalNanos, emissionIntervalNanos * capacity);
+    }
+
+    /**
+     * 토큰이 모두 채워진(일정 시간 요청이 없던) 버킷을 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.idle-eviction-interval-ms:60000}",
+            initialDelayString = "${rate-limit.idle-eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = nanoTime.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now));
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("유휴 속도 제한 버킷 {}개 제거 (남은 버킷: {})", evicted, buckets.size());
+        }
+    }
+
+    /**
+     * 현재 보관 중인 버킷 수
+     */
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * GCRA 버킷
+     */
+    private static final class Bucket {
+
+        // 이론상 도착 시각 (이 시각 이전이면 아직 채워지지 않은 토큰이 있음)
+        private final AtomicLong theoreticalArrivalTime;
+
+        private Bucket(long now) {
+            this.theoreticalArrivalTime = new AtomicLong(now);
+        }
+
+        long tryAcquire(long now, long emissionInterval, long burstOffset) {
+            while (true) {
+                long tat = theoreticalArrivalTime.get();
+                long newTat = Math.max(tat, now) + emissionInterval;
+                long allowAt = newTat - burstOffset;
+                if (now - allowAt < 0) {
+                    return allowAt - now;
+                }
+                if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isIdle(long now) {
+            return theoreticalArrivalTime.get() - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package dev.gyeoul.esginsightboard.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 캐시
+ * <p>
+ * 대시보드 클라이언트는 같은 토큰을 반복해서 보내므로, 한 번 검증한 토큰의 클레임을 캐시하여
+ * 이후 요청은 HMAC-SHA512 검증 없이 해시 조회만으로 인증합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>키는 토큰 원문이 아닌 SHA-256 다이제스트를 사용합니다. (메모리 덤프 등으로 토큰이 노출되지 않도록)</li>
+ *   <li>각 항목은 토큰의 exp 클레임 시각에 만료되며, exp가 없으면 jwt.token-cache.max-ttl 후 만료됩니다.</li>
+ *   <li>최대 항목 수(jwt.token-cache.max-size)를 넘으면 오래 사용되지 않은 항목부터 제거됩니다.</li>
+ *   <li>키 교체, 토큰 폐기 시 {@link #invalidate(String)}, {@link #invalidateAll()}로 비웁니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 기본값은 비활성화(jwt.token-cache.enabled=false)이며, 비활성화 상태에서는 모든 메서드가 아무 작업도 하지 않습니다.
+ * 토큰 버전 확인(TokenVersionService)은 캐시 여부와 관계없이 요청마다 수행됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, Claims> cache;
+
+    // MessageDigest는 스레드 안전하지 않으므로 스레드별로 재사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    public VerifiedTokenCache(@Value("${jwt.token-cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.token-cache.max-size:10000}") long maxSize,
+                              @Value("${jwt.token-cache.max-ttl:1h}") Duration maxTtl,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExpiration(maxTtl.toNanos()))
+                .recordStats()
+                .build();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+            log.info("JWT 검증 결과 캐시 사용 (최대 {}개)", maxSize);
+        }
+    }
+
+    /**
+     * 캐시된 클레임을 조회합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임 (캐시에 없거나 비활성화 상태면 null)
+     */
+    public Claims getIfPresent(String token) {
+        if (!enabled) {
+            return null;
+        }
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * 검증된 토큰의 클레임을 저장합니다. 이미 만료된 토큰은 저장하지 않습니다.
+     *
+     * @param token JWT 토큰
+     * @param claims 서명 검증이 끝난 클레임
+     */
+    public void put(String token, Claims claims) {
+        if (!enabled) {
+            return;
+        }
+        Date expiration = claims.getExpiration();
+        if (expiration != null && expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(digest(token), claims);
+    }
+
+    /**
+     * 특정 토큰을 캐시에서 제거합니다. (토큰 폐기 시)
+     *
+     * @param token JWT 토큰
+     */
+    public void invalidate(String token) {
+        if (enabled) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    /**
+     * 모든 항목을 제거합니다. (서명 키 교체 시)
+     */
+    public void invalidateAll() {
+        if (enabled) {
+            cache.invalidateAll();
+            log.info("JWT 검증 결과 캐시 초기화");
+        }
+    }
+
+    private static String digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    /**
+     * 토큰의 exp 시각에 항목을 만료시키는 정책 (exp가 없으면 최대 유지 시간 적용)
+     */
+    private static final class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        private ExpireAtTokenExpiration(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
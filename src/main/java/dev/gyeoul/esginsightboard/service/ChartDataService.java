@@ -1,16 +1,32 @@
 package dev.gyeoul.esginsightboard.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.gyeoul.esginsightboard.dto.ChartDataDto;
+import dev.gyeoul.esginsightboard.dto.ChartDataHeader;
+import dev.gyeoul.esginsightboard.dto.ChartDataSearchCondition;
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
+import dev.gyeoul.esginsightboard.dto.SearchHit;
 import dev.gyeoul.esginsightboard.dto.UserDto;
 import dev.gyeoul.esginsightboard.entity.ChartData;
 import dev.gyeoul.esginsightboard.entity.User;
+import dev.gyeoul.esginsightboard.exception.ResourceNotFoundException;
 import dev.gyeoul.esginsightboard.repository.ChartDataRepository;
 import dev.gyeoul.esginsightboard.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +35,13 @@ public class ChartDataService {
 
     private final ChartDataRepository chartDataRepository;
     private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final ChartPayloadCache chartPayloadCache;
+    private final FullTextSearchService fullTextSearchService;
+
+    // 차트 검색 정렬 허용 필드 / 최대 페이지 크기
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "title", "createdAt", "updatedAt");
+    private static final int MAX_PAGE_SIZE = 100;
 
     // ✅ 차트 데이터 저장 (DTO 적용)
     @Transactional
@@ -33,80 +56,153 @@ public class ChartDataService {
         return ChartDataDto.fromEntity(savedChartData);
     }
 
-    // ✅ 여러 개의 ID로 차트 조회
+    // ✅ 여러 개의 ID로 내 차트 조회 (다른 사용자의 차트 ID는 제외, JSON 데이터는 캐시 사용)
     @Transactional(readOnly = true)
-    public List<ChartDataDto> getChartsByIds(List<Long> ids) {
-        return chartDataRepository.findAllById(ids)
-                .stream()
-                .map(ChartDataDto::fromEntity)
-                .collect(Collectors.toList());
+    public List<ChartDataDto> getChartsByIds(Long userId, List<Long> ids, boolean raw) {
+        return toDtosWithCachedData(chartDataRepository.findHeadersByUserIdAndIdIn(userId, ids), raw);
     }
 
-    // ✅ ID로 특정 차트 조회
+    // ✅ ID로 내 차트 조회
     @Transactional(readOnly = true)
-    public ChartDataDto getChartDataById(Long id) {
-        ChartData chartData = chartDataRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("ChartData not found with ID: " + id));
-        return ChartDataDto.fromEntity(chartData);
+    public ChartDataDto getChartDataById(Long id, Long userId) {
+        return ChartDataDto.fromEntity(findOwnedChart(id, userId));
+    }
+
+    // 다른 사용자의 차트는 존재 여부를 드러내지 않도록 없는 차트와 같이 404로 처리
+    private ChartData findOwnedChart(Long id, Long userId) {
+        return chartDataRepository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + id + "인 차트를 찾을 수 없습니다."));
     }
 
-    // ✅ 전체 차트 데이터 조회
+    // ✅ 내 차트 전체 조회 (JSON 데이터는 캐시 사용)
     @Transactional(readOnly = true)
-    public List<ChartDataDto> getAllChartData() {
-        return chartDataRepository.findAll()
+    public List<ChartDataDto> getMyChartData(Long userId, boolean raw) {
+        return toDtosWithCachedData(chartDataRepository.findHeadersByUserId(userId), raw);
+    }
+
+    // ✅ 내(또는 소속 회사) 차트 조건 검색 + 페이지 (JSON 데이터는 캐시 사용)
+    @Transactional(readOnly = true)
+    public Page<ChartDataDto> searchCharts(ChartDataSearchCondition condition, UserDto userDto, boolean companyScope,
+                                           Pageable pageable, boolean raw) {
+        validateSort(pageable.getSort());
+        if (pageable.isPaged() && pageable.getPageSize() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 최대 " + MAX_PAGE_SIZE + "까지 지정할 수 있습니다.");
+        }
+        Long companyId = null;
+        if (companyScope) {
+            companyId = userDto.getCompanyId();
+            if (companyId == null) {
+                throw new IllegalArgumentException("소속 회사가 없는 사용자는 회사 범위로 조회할 수 없습니다.");
+            }
+        }
+        Page<ChartDataHeader> headers = chartDataRepository.findHeaders(condition, userDto.getId(), companyId, pageable);
+        Map<Long, List<ChartSeriesPoint>> payloads = headers.isEmpty()
+                ? Map.of()
+                : chartPayloadCache.getAll(headers.getContent(), raw, chartDataRepository::findPayloadsByIdIn);
+        return headers.map(header -> ChartDataDto.fromHeader(header, payloads.getOrDefault(header.id(), List.of())));
+    }
+
+    // ✅ 내 차트 제목/설명 전문 검색 (관련도 순, JSON 데이터는 캐시 사용)
+    @Transactional(readOnly = true)
+    public Page<SearchHit<ChartDataDto>> searchChartsByText(String query, UserDto userDto, Pageable pageable, boolean raw) {
+        Page<SearchHit<Long>> hits = fullTextSearchService.searchCharts(query, userDto.getId(), pageable);
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), hits.getPageable(), hits.getTotalElements());
+        }
+        Map<Long, ChartDataHeader> headers = chartDataRepository
+                .findHeadersByUserIdAndIdIn(userDto.getId(), hits.map(SearchHit::item).getContent())
                 .stream()
-                .map(ChartDataDto::fromEntity)
+                .collect(Collectors.toMap(ChartDataHeader::id, Function.identity()));
+        Map<Long, List<ChartSeriesPoint>> payloads =
+                chartPayloadCache.getAll(headers.values(), raw, chartDataRepository::findPayloadsByIdIn);
+        // 검색 직후 삭제된 차트는 제외하고 관련도 순서 유지
+        List<SearchHit<ChartDataDto>> content = new ArrayList<>(hits.getNumberOfElements());
+        for (SearchHit<Long> hit : hits) {
+            ChartDataHeader header = headers.get(hit.item());
+            if (header != null) {
+                content.add(new SearchHit<>(ChartDataDto.fromHeader(header, payloads.getOrDefault(header.id(), List.of())),
+                        hit.score()));
+            }
+        }
+        return new PageImpl<>(content, hits.getPageable(), hits.getTotalElements());
+    }
+
+    // 정렬 가능 필드 제한 (설명/JSON 데이터 등 큰 컬럼으로 정렬하는 것을 방지)
+    // id 정렬만 (user_id, id) 인덱스를 사용하며, title/createdAt/updatedAt 정렬은 조건에 맞는 사용자(회사) 범위의 행을 정렬함
+    private void validateSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("정렬할 수 없는 필드입니다: " + order.getProperty());
+            }
+        }
+    }
+
+    // JSON 데이터를 제외한 항목만 읽고, 데이터는 (id, updatedAt) 기준 캐시에서 가져옴
+    // 캐시에 없는 차트의 데이터만 한 번의 쿼리로 읽음 (수정된 차트는 updatedAt이 바뀌어 다시 읽음)
+    // raw가 false이면 차트 유형/칸 수에 맞게 다운샘플링된 시리즈를 반환
+    private List<ChartDataDto> toDtosWithCachedData(List<ChartDataHeader> headers, boolean raw) {
+        if (headers.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ChartSeriesPoint>> payloads =
+                chartPayloadCache.getAll(headers, raw, chartDataRepository::findPayloadsByIdIn);
+        return headers.stream()
+                .map(header -> ChartDataDto.fromHeader(header, payloads.getOrDefault(header.id(), List.of())))
                 .collect(Collectors.toList());
     }
 
-    // ✅ 특정 제목의 차트 조회
+    // 이미 읽은 엔티티 → DTO 변환 (다운샘플링 결과는 캐시 사용)
+    private ChartDataDto toDto(ChartData chartData, boolean raw) {
+        return ChartDataDto.fromEntity(chartData, chartPayloadCache.get(chartData, raw));
+    }
+
+    // ✅ 특정 제목의 내 차트 조회
     @Transactional(readOnly = true)
-    public List<ChartDataDto> getChartDataByTitle(String title) {
-        return chartDataRepository.findByTitle(title)
+    public List<ChartDataDto> getChartDataByTitle(Long userId, String title, boolean raw) {
+        return chartDataRepository.findByUserIdAndTitle(userId, title)
                 .stream()
-                .map(ChartDataDto::fromEntity)
+                .map(chart -> toDto(chart, raw))
                 .collect(Collectors.toList());
     }
 
-    // ✅ 설명에 특정 키워드 포함된 차트 조회
+    // ✅ 설명에 특정 키워드 포함된 내 차트 조회
     @Transactional(readOnly = true)
-    public List<ChartDataDto> getChartDataByDescription(String keyword) {
-        return chartDataRepository.findByDescriptionContaining(keyword)
+    public List<ChartDataDto> getChartDataByDescription(Long userId, String keyword, boolean raw) {
+        return chartDataRepository.findByUserIdAndDescriptionContaining(userId, keyword)
                 .stream()
-                .map(ChartDataDto::fromEntity)
+                .map(chart -> toDto(chart, raw))
                 .collect(Collectors.toList());
     }
 
-    // ✅ ESG 카테고리별 차트 조회
+    // ✅ ESG 카테고리별 내 차트 조회
     @Transactional(readOnly = true)
-    public List<ChartDataDto> getChartDataByCategory(String category) {
-        return chartDataRepository.findByCategory(category)
+    public List<ChartDataDto> getChartDataByCategory(Long userId, String category, boolean raw) {
+        return chartDataRepository.findByUserIdAndCategory(userId, category)
                 .stream()
-                .map(ChartDataDto::fromEntity)
+                .map(chart -> toDto(chart, raw))
                 .collect(Collectors.toList());
     }
 
-    // ✅ 특정 세부 지표(indicator)별 차트 조회
+    // ✅ 특정 세부 지표(indicator)별 내 차트 조회
     @Transactional(readOnly = true)
-    public List<ChartDataDto> getChartDataByIndicator(String indicator) {
-        return chartDataRepository.findByIndicator(indicator)
+    public List<ChartDataDto> getChartDataByIndicator(Long userId, String indicator, boolean raw) {
+        return chartDataRepository.findByUserIdAndIndicator(userId, indicator)
                 .stream()
-                .map(ChartDataDto::fromEntity)
+                .map(chart -> toDto(chart, raw))
                 .collect(Collectors.toList());
     }
 
-    // ✅ 특정 차트 칸 개수로 조회
+    // ✅ 특정 차트 칸 개수로 내 차트 조회
     @Transactional(readOnly = true)
-    public List<ChartDataDto> getChartDataByChartGrid(Integer chartGrid) {
-        return chartDataRepository.findByChartGrid(chartGrid)
+    public List<ChartDataDto> getChartDataByChartGrid(Long userId, Integer chartGrid, boolean raw) {
+        return chartDataRepository.findByUserIdAndChartGrid(userId, chartGrid)
                 .stream()
-                .map(ChartDataDto::fromEntity)
+                .map(chart -> toDto(chart, raw))
                 .collect(Collectors.toList());
     }
     @Transactional
     public ChartDataDto updateChartData(Long id, ChartDataDto dto, UserDto userDto) {
-        ChartData chartData = chartDataRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("ChartData not found with ID: " + id));
+        ChartData chartData = findOwnedChart(id, userDto.getId());
 
         // ✅ 엔티티 내부에서 값 변경 (setter 없이)
         chartData.update(
@@ -116,19 +212,46 @@ public class ChartDataService {
                 dto.getIndicator(),
                 dto.getChartType(),
                 dto.getChartGrid(),
-                dto.getData().toString()
+                dto.getData()
         );
 
         // ✅ 트랜잭션이 끝나면 JPA가 자동으로 변경 사항을 반영 (save() 필요 없음)
         return ChartDataDto.fromEntity(chartData);
     }
 
-    // ✅ 차트 데이터 삭제
+    // ✅ 데이터(JSON)가 조건 JSON을 포함하는 내 차트 조회 (PostgreSQL은 jsonb @> 연산자로 DB에서 검색)
+    @Transactional(readOnly = true)
+    public List<ChartDataDto> searchChartDataByData(String containsJson, UserDto userDto, boolean raw) {
+        JsonNode pattern;
+        try {
+            pattern = objectMapper.readTree(containsJson);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("검색 조건이 올바른 JSON이 아닙니다.");
+        }
+        if (pattern == null || !pattern.isContainerNode()) {
+            throw new IllegalArgumentException("검색 조건은 JSON 객체 또는 배열이어야 합니다.");
+        }
+        return chartDataRepository.findByUserIdAndDataContaining(userDto.getId(), pattern)
+                .stream()
+                .map(chart -> toDto(chart, raw))
+                .collect(Collectors.toList());
+    }
+
+    // ✅ 시리즈 하나만 교체 (차트 전체 데이터를 다시 저장하지 않음)
     @Transactional
-    public void deleteChartData(Long id) {
-        if (!chartDataRepository.existsById(id)) {
-            throw new IllegalArgumentException("ChartData not found with ID: " + id);
+    public ChartDataDto replaceSeries(Long id, int index, ChartSeriesPoint series, UserDto userDto) {
+        if (series == null) {
+            throw new IllegalArgumentException("시리즈 데이터가 필요합니다.");
+        }
+        if (!chartDataRepository.replaceSeries(id, userDto.getId(), index, series)) {
+            throw new IllegalArgumentException("차트를 찾을 수 없거나 시리즈 위치가 범위를 벗어났습니다. (ID: " + id + ", index: " + index + ")");
         }
-        chartDataRepository.deleteById(id);
+        return getChartDataById(id, userDto.getId());
+    }
+
+    // ✅ 차트 데이터 삭제
+    @Transactional
+    public void deleteChartData(Long id, UserDto userDto) {
+        chartDataRepository.delete(findOwnedChart(id, userDto.getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package dev.gyeoul.esginsightboard.service;
+
+import dev.gyeoul.esginsightboard.config.ChartDownsamplingProperties;
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
+import dev.gyeoul.esginsightboard.util.Lttb;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 차트 시리즈 다운샘플링
+ * <p>
+ * 차트 유형(chartType)과 그리드 칸 수(chartGrid)로 목표 점 개수를 정하고,
+ * 점이 그보다 많으면 LTTB({@link Lttb})로 줄입니다.
+ * 값(value)이 숫자가 아닌 점이 하나라도 있으면 모양을 계산할 수 없으므로 줄이지 않습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChartDownsampler {
+
+    // 다운샘플링하지 않음
+    public static final int NO_LIMIT = 0;
+
+    private static final int MIN_GRID = 1;
+    private static final int MAX_GRID = 4;
+
+    private final ChartDownsamplingProperties properties;
+
+    /**
+     * 차트에 표시할 최대 점 개수를 반환합니다.
+     *
+     * @param chartType 차트 유형 (Bar, Line, Area, Pie, Donut)
+     * @param chartGrid 그리드 칸 수 (1~4)
+     * @return 최대 점 개수 (다운샘플링하지 않으면 {@link #NO_LIMIT})
+     */
+    public int maxPoints(String chartType, Integer chartGrid) {
+        if (!properties.isEnabled() || chartType == null) {
+            return NO_LIMIT;
+        }
+        Integer perGrid = properties.getPointsPerGrid().get(chartType.toLowerCase(Locale.ROOT));
+        if (perGrid == null || perGrid <= 0) {
+            return NO_LIMIT;
+        }
+        int grid = chartGrid != null ? Math.max(MIN_GRID, Math.min(MAX_GRID, chartGrid)) : MIN_GRID;
+        return perGrid * grid;
+    }
+
+    /**
+     * 시리즈를 최대 점 개수 이하로 줄입니다.
+     *
+     * @param points 원본 시리즈
+     * @param maxPoints 최대 점 개수 ({@link #NO_LIMIT}이면 원본 그대로)
+     * @return 줄인 시리즈 (줄일 필요가 없으면 원본)
+     */
+    public List<ChartSeriesPoint> downsample(List<ChartSeriesPoint> points, int maxPoints) {
+        if (maxPoints == NO_LIMIT || points.size() <= maxPoints) {
+            return points;
+        }
+        double[] values = new double[points.size()];
+        for (int i = 0; i < values.length; i++) {
+            ChartSeriesPoint point = points.get(i);
+            if (point == null || point.getValue() == null || !Double.isFinite(point.getValue())) {
+                return points;
+            }
+            values[i] = point.getValue();
+        }
+        return Lttb.downsample(points, values, maxPoints);
+    }
+}
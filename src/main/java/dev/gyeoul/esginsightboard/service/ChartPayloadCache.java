@@ -0,0 +1,113 @@
+package dev.gyeoul.esginsightboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.gyeoul.esginsightboard.dto.ChartDataHeader;
+import dev.gyeoul.esginsightboard.dto.ChartPayload;
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
+import dev.gyeoul.esginsightboard.entity.ChartData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 차트 JSON 데이터(ChartData.data) 역직렬화/다운샘플링 결과 캐시
+ * <p>
+ * 키는 (차트 ID, 수정 일시, 최대 점 개수)이므로 차트가 수정되면 수정 일시가 바뀌어 자연히 새 키로 조회되며,
+ * 이전 값은 크기/유휴 시간 제한으로 제거됩니다. 따라서 수정/삭제 시 별도로 비울 필요가 없습니다.
+ * 최대 점 개수는 차트 유형/칸 수로 정해지며({@link ChartDownsampler}), 원본 요청은 {@link ChartDownsampler#NO_LIMIT}입니다.
+ * 값은 변경할 수 없는 목록이므로 여러 요청이 같은 인스턴스를 공유합니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ChartPayloadCache {
+
+    private final ChartDownsampler downsampler;
+    private final Cache<Key, List<ChartSeriesPoint>> cache;
+
+    public ChartPayloadCache(ChartDownsampler downsampler,
+                             @Value("${chart.payload-cache.max-size:2000}") long maxSize,
+                             @Value("${chart.payload-cache.expire-after-access:30m}") Duration expireAfterAccess,
+                             MeterRegistry meterRegistry) {
+        this.downsampler = downsampler;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "chart.payloads");
+    }
+
+    /**
+     * 차트들의 JSON 데이터를 반환합니다. 캐시에 없는 차트만 loader로 한 번에 읽어 캐시에 저장합니다.
+     *
+     * @param headers 조회할 차트 (id, updatedAt, chartType, chartGrid 사용)
+     * @param raw true이면 다운샘플링하지 않은 원본
+     * @param loader 캐시에 없는 차트 ID 목록으로 데이터를 읽는 함수 (쿼리 1회)
+     * @return 차트 ID → 시리즈 목록
+     */
+    public Map<Long, List<ChartSeriesPoint>> getAll(Collection<ChartDataHeader> headers, boolean raw,
+                                                     Function<Collection<Long>, List<ChartPayload>> loader) {
+        Map<Long, List<ChartSeriesPoint>> result = new HashMap<>(Math.max(16, headers.size() * 2));
+        Map<Long, Key> missing = new HashMap<>();
+        for (ChartDataHeader header : headers) {
+            Key key = new Key(header.id(), header.updatedAt(), maxPoints(header.chartType(), header.chartGrid(), raw));
+            List<ChartSeriesPoint> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                result.put(header.id(), cached);
+            } else {
+                missing.put(header.id(), key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (ChartPayload payload : loader.apply(new ArrayList<>(missing.keySet()))) {
+                Key key = missing.get(payload.id());
+                List<ChartSeriesPoint> data = prepare(payload.data(), key.maxPoints());
+                cache.put(key, data);
+                result.put(payload.id(), data);
+            }
+            log.debug("차트 데이터 캐시: 적중 {}건, 로드 {}건", headers.size() - missing.size(), missing.size());
+        }
+        return result;
+    }
+
+    /**
+     * 이미 읽은 차트 엔티티의 데이터를 반환합니다. 캐시에 있으면 다운샘플링을 다시 하지 않습니다.
+     *
+     * @param chart 차트 엔티티
+     * @param raw true이면 다운샘플링하지 않은 원본
+     * @return 시리즈 목록
+     */
+    public List<ChartSeriesPoint> get(ChartData chart, boolean raw) {
+        Key key = new Key(chart.getId(), chart.getUpdatedAt(), maxPoints(chart.getChartType(), chart.getChartGrid(), raw));
+        return cache.get(key, k -> prepare(chart.getData(), k.maxPoints()));
+    }
+
+    private int maxPoints(String chartType, Integer chartGrid, boolean raw) {
+        return raw ? ChartDownsampler.NO_LIMIT : downsampler.maxPoints(chartType, chartGrid);
+    }
+
+    private List<ChartSeriesPoint> prepare(List<ChartSeriesPoint> data, int maxPoints) {
+        if (data == null) {
+            return List.of();
+        }
+        // null 요소가 있을 수 있으므로 List.copyOf 대신 복사 후 변경 불가 목록으로 감쌈
+        return Collections.unmodifiableList(new ArrayList<>(downsampler.downsample(data, maxPoints)));
+    }
+
+    private record Key(Long id, LocalDateTime updatedAt, int maxPoints) {
+    }
+}
@@ -1,42 +1,68 @@
 package dev.gyeoul.esginsightboard.service;
 
+import dev.gyeoul.esginsightboard.dto.ChartDraft;
 import dev.gyeoul.esginsightboard.dto.EsgChartDataDto;
+import dev.gyeoul.esginsightboard.dto.EsgInputValueDto;
+import dev.gyeoul.esginsightboard.dto.EsgTimeSeriesPoint;
+import dev.gyeoul.esginsightboard.dto.TimeBucket;
 import dev.gyeoul.esginsightboard.dto.UserDto;
 import dev.gyeoul.esginsightboard.entity.*;
+import dev.gyeoul.esginsightboard.exception.ResourceNotFoundException;
 import dev.gyeoul.esginsightboard.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 // 사용자가 입력한 차트 로직을 처리하는 서비스
 @Service
 @RequiredArgsConstructor    // 생성자 주입을 자동으로 처리해주는 롬복 어노테이션
 public class ChartService {
 
-    private final EsgCategoryRepository categoryRepository;
-    private final EsgIndicatorRepository indicatorRepository;
+    // 시계열 집계 한 번에 요청할 수 있는 최대 지표 수
+    private static final int MAX_TIME_SERIES_INDICATORS = 50;
+    // 입력값 페이지 조회 한 번에 요청할 수 있는 최대 크기
+    private static final int MAX_VALUES_PAGE_SIZE = 200;
+
+    private final EsgReferenceRegistry referenceRegistry;
     private final EsgInputValueRepository inputValueRepository;
 //    private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final ChartRepository chartRepository;
 
     // 차트 데이터 저장 메서드
+    // 연도별 입력값을 모두 만든 뒤 JDBC 배치 한 번으로 저장 (연도 수와 관계없이 왕복 1회)
+    // 같은 지표/사용자/연도의 값이 이미 있으면 새 행을 추가하지 않고 값을 갱신 (upsert)
+    @Transactional
     public void saveChartData(EsgChartDataDto chartDto, UserDto user) {
 
-        // 1. 카테고리 조회 (예: "E", "S", "G")
-        EsgCategory category = categoryRepository.findByCategory(chartDto.getCategory())
-                .orElseThrow(() -> new IllegalArgumentException("잘못된 카테고리 코드입니다."));
+        // 1. 카테고리 확인 (예: "E", "S", "G") - 메모리 레지스트리에서 확인하므로 DB 조회 없음
+        if (!referenceRegistry.hasCategory(chartDto.getCategory())) {
+            throw new IllegalArgumentException("잘못된 카테고리 코드입니다.");
+        }
 
-        // 2. 지표 조회
-        EsgIndicator indicator = indicatorRepository.findByIndicatorCode(chartDto.getIndicatorCode())
-                .orElseThrow(() -> new IllegalArgumentException("잘못된 카테고리 코드입니다."));
+        // 2. 지표 확인 (저장에는 지표 코드만 필요하므로 엔티티는 프록시로 참조)
+        EsgIndicator indicator = referenceRegistry.getIndicatorReference(chartDto.getIndicatorCode())
+                .orElseThrow(() -> new IllegalArgumentException("잘못된 지표 코드입니다."));
 
-        // 3. 사용자 조회
-        User userId = userRepository.findById(user.getId())
-                .orElseThrow(() -> new IllegalStateException("회사를 찾을 수 없습니다."));
+        // 3. 사용자 확인 (저장에는 ID만 필요하므로 엔티티는 프록시로 참조)
+        if (!userRepository.existsById(user.getId())) {
+            throw new IllegalStateException("사용자를 찾을 수 없습니다.");
+        }
+        User userRef = userRepository.getReferenceById(user.getId());
 
-        // 4. 연도별 입력값 Map 순회 저장
+        // 4. 연도별 입력값 엔티티 생성
+        List<EsgInputValue> inputValues = new ArrayList<>(chartDto.getIndicatorInputs().size());
         for (Map.Entry<String, String> entry : chartDto.getIndicatorInputs().entrySet()) {
             String period = entry.getKey();   // 예: "2024"
             String value = entry.getValue();  // 예: "123.45" 또는 "사용량 증가"
@@ -50,26 +76,102 @@ public class ChartService {
             }
 
             // 연도를 기준으로 보고 기간 설정 (1월 1일 ~ 12월 31일)
-            LocalDate startDate = LocalDate.of(Integer.parseInt(period), 1, 1);
-            LocalDate endDate = LocalDate.of(Integer.parseInt(period), 12, 31);
+            int year = Integer.parseInt(period);
+            LocalDate startDate = LocalDate.of(year, 1, 1);
+            LocalDate endDate = LocalDate.of(year, 12, 31);
 
-            // EsqInputValue 엔티티 생성
-            EsgInputValue inputValue = new EsgInputValue(
+            inputValues.add(new EsgInputValue(
                     indicator,          // 연결된 지표
-                    userId,            // 연결된 회사
+                    userRef,            // 입력한 사용자
                     numericValue,       // 숫자형 값 (null 가능)
                     value,              // 원래의 문자열 값
                     chartDto.getUnit(),      // 단위 (예: "톤", "kWh")
                     startDate,          // 보고 시작일
                     endDate             // 보고 종료일
-            );
+            ));
+        }
+
+        // 5. DB에 일괄 저장 (upsert)
+        inputValueRepository.upsertAll(inputValues);
+    }
+
+    // 사용자가 입력한 지표의 연도(보고 기간)별 최신 값 조회
+    @Transactional(readOnly = true)
+    public List<EsgInputValueDto> getLatestValues(String indicatorCode, Long userId) {
+        return inputValueRepository.findLatestValues(indicatorCode, userId);
+    }
+
+    // 사용자가 입력한 지표 값을 보고 기간 최신순으로 페이지 조회 (정렬은 쿼리에 고정)
+    @Transactional(readOnly = true)
+    public Page<EsgInputValueDto> getValuesPage(String indicatorCode, Long userId, Pageable pageable) {
+        if (pageable.getPageSize() > MAX_VALUES_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 최대 " + MAX_VALUES_PAGE_SIZE + "까지 지정할 수 있습니다.");
+        }
+        return inputValueRepository.findValuesPage(indicatorCode, userId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+    }
+
+    /**
+     * 지표별 시계열 집계 조회
+     * 여러 지표의 구간별 합계/평균/최소/최대를 한 번의 쿼리로 계산합니다.
+     *
+     * @param indicatorCodes 지표 코드 목록
+     * @param user 현재 사용자
+     * @param companyScope true이면 사용자가 속한 회사 전체, false이면 사용자 본인의 입력값만 집계
+     * @param from 보고 기간 시작일 하한 (포함)
+     * @param to 보고 기간 시작일 상한 (포함)
+     * @param bucket 집계 단위 (연도/분기/월)
+     * @return 지표 코드, 구간 시작일 순으로 정렬된 집계값 목록
+     * @throws IllegalArgumentException 지표 코드가 없거나 너무 많은 경우, 시작일이 종료일보다 늦은 경우,
+     *                                  회사 정보가 없는 사용자가 회사 단위로 조회한 경우
+     */
+    @Transactional(readOnly = true)
+    public List<EsgTimeSeriesPoint> getTimeSeries(Collection<String> indicatorCodes, UserDto user, boolean companyScope,
+                                                  LocalDate from, LocalDate to, TimeBucket bucket) {
+        Set<String> codes = new LinkedHashSet<>(indicatorCodes);
+        if (codes.isEmpty()) {
+            throw new IllegalArgumentException("지표 코드를 하나 이상 지정해야 합니다.");
+        }
+        if (codes.size() > MAX_TIME_SERIES_INDICATORS) {
+            throw new IllegalArgumentException("지표 코드는 최대 " + MAX_TIME_SERIES_INDICATORS + "개까지 지정할 수 있습니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 이후일 수 없습니다.");
+        }
+        if (companyScope && user.getCompanyId() == null) {
+            throw new IllegalArgumentException("회사 정보가 없는 사용자는 회사 단위로 조회할 수 없습니다.");
+        }
+        return inputValueRepository.aggregateTimeSeries(codes,
+                companyScope ? null : user.getId(),
+                companyScope ? user.getCompanyId() : null,
+                from, to, bucket);
+    }
+
+    // 작성 중인 차트 입력값 임시 저장 (검증 전 값도 그대로 보관, 사용자별 최근 항목만 유지)
+    public ChartDraft saveDraft(EsgChartDataDto chartDto, UserDto user) {
+        return chartRepository.save(user.getId(), chartDto);
+    }
+
+    // 사용자의 임시 저장 목록 (저장 순서대로)
+    public List<ChartDraft> getDrafts(Long userId) {
+        return chartRepository.findByUserId(userId);
+    }
 
-            EsgInputValue saved = inputValueRepository.save(inputValue);
-//            savedDtos.add(EsgInputValueDto.from(saved));
+    // 사용자의 임시 저장 항목 하나 조회 (다른 사용자의 항목이나 보관 기간이 지난 항목은 404)
+    public ChartDraft getDraft(Long userId, long draftId) {
+        return chartRepository.findById(userId, draftId)
+                .orElseThrow(() -> new ResourceNotFoundException("ID가 " + draftId + "인 임시 저장을 찾을 수 없습니다."));
+    }
 
-            // DB에 저장
-//            inputValueRepository.save(inputValue);
+    // 사용자의 임시 저장 항목 하나 삭제
+    public void deleteDraft(Long userId, long draftId) {
+        if (!chartRepository.deleteById(userId, draftId)) {
+            throw new ResourceNotFoundException("ID가 " + draftId + "인 임시 저장을 찾을 수 없습니다.");
         }
-//        return saveDtos;
+    }
+
+    // 사용자의 임시 저장 전체 삭제, 삭제한 항목 수 반환
+    public int deleteDrafts(Long userId) {
+        return chartRepository.deleteByUserId(userId);
     }
 }
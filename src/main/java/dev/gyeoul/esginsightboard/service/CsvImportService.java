@@ -105,6 +105,7 @@ public class CsvImportService {
     // 필요한 리포지토리 주입
     private final GriDataItemRepository griDataItemRepository;
     private final CompanyRepository companyRepository;
+    private final GriDataItemPartitionService griDataItemPartitionService;
 
     /**
      * CSV 파일을 파싱하고 데이터베이스에 저장
@@ -221,17 +222,17 @@ public class CsvImportService {
         int errorCount = 0;
         List<String> errorMessages = new ArrayList<>();
 
-        // 각 행 처리
+        // 각 행을 엔티티로 변환 (행 번호 -> 엔티티)
+        Map<Integer, GriDataItem> convertedItems = new LinkedHashMap<>();
+        Set<Integer> reportingYears = new TreeSet<>();
         for (int i = 0; i < csvData.size(); i++) {
             try {
-                Map<String, String> row = csvData.get(i);
-                GriDataItem dataItem = convertRowToGriDataItem(row);
+                GriDataItem dataItem = convertRowToGriDataItem(csvData.get(i));
                 dataItem.setCompany(company);
-                
-                // 데이터베이스에 저장
-                griDataItemRepository.save(dataItem);
-                processedCount++;
-                
+                convertedItems.put(i, dataItem);
+                if (dataItem.getReportingPeriodStart() != null) {
+                    reportingYears.add(dataItem.getReportingPeriodStart().getYear());
+                }
             } catch (Exception e) {
                 log.error("{}번째 행 처리 중 오류 발생: {}", i + 1, e.getMessage());
                 errorMessages.add("행 " + (i + 1) + ": " + e.getMessage());
@@ -239,6 +240,21 @@ public class CsvImportService {
             }
         }
 
+        // 저장 전에 새 보고 연도의 파티션 생성 (PostgreSQL에서만 동작)
+        griDataItemPartitionService.ensurePartitions(reportingYears);
+
+        // 데이터베이스에 저장
+        for (Map.Entry<Integer, GriDataItem> entry : convertedItems.entrySet()) {
+            try {
+                griDataItemRepository.save(entry.getValue());
+                processedCount++;
+            } catch (Exception e) {
+                log.error("{}번째 행 저장 중 오류 발생: {}", entry.getKey() + 1, e.getMessage());
+                errorMessages.add("행 " + (entry.getKey() + 1) + ": " + e.getMessage());
+                errorCount++;
+            }
+        }
+
         log.info("GRI 데이터 처리 완료. 성공: {}, 실패: {}", processedCount, errorCount);
         
         // 처리 결과 반환
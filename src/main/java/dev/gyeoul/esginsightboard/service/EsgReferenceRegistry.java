@@ -0,0 +1,179 @@
+package dev.gyeoul.esginsightboard.service;
+
+import dev.gyeoul.esginsightboard.entity.EsgCategory;
+import dev.gyeoul.esginsightboard.entity.EsgIndicator;
+import dev.gyeoul.esginsightboard.repository.EsgCategoryRepository;
+import dev.gyeoul.esginsightboard.repository.EsgIndicatorRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ESG 카테고리/지표 코드 조회용 메모리 레지스트리
+ * <p>
+ * 카테고리(E/S/G 3건)와 지표는 거의 바뀌지 않으므로 코드 집합을 메모리에 두고,
+ * 차트 저장처럼 코드로 엔티티를 찾는 경로에서 DB 조회 없이 카테고리 코드를 확인하고 지표 엔티티 참조(프록시)를 반환합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>집합은 불변이며, 다시 읽을 때는 새 집합을 만든 뒤 통째로 교체하므로 조회는 잠금 없이 수행됩니다.</li>
+ *   <li>처음 조회할 때 읽어오며(read-through), 없는 코드를 조회하면 다른 서버에서 추가되었을 수 있으므로
+ *       최소 간격({@value #MISS_RELOAD_INTERVAL_SECONDS}초)을 두고 한 번 다시 읽습니다.</li>
+ *   <li>JPA로 카테고리/지표가 변경되면 커밋 후 비워지고(EsgReferenceDataListener),
+ *       다른 서버의 변경은 esg.reference-registry.refresh-interval-ms 주기로 반영됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class EsgReferenceRegistry {
+
+    static final long MISS_RELOAD_INTERVAL_SECONDS = 5;
+
+    private final EsgCategoryRepository categoryRepository;
+    private final EsgIndicatorRepository indicatorRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Snapshot snapshot;
+
+    public EsgReferenceRegistry(EsgCategoryRepository categoryRepository,
+                                EsgIndicatorRepository indicatorRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.indicatorRepository = indicatorRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 카테고리 코드가 존재하는지 확인합니다.
+     *
+     * @param categoryCode 카테고리 코드 ("E", "S", "G")
+     * @return 존재 여부
+     */
+    public boolean hasCategory(String categoryCode) {
+        if (categoryCode == null) {
+            return false;
+        }
+        return current().categoryCodes.contains(categoryCode)
+                || (reloadAfterMiss() && current().categoryCodes.contains(categoryCode));
+    }
+
+    /**
+     * 지표 코드로 엔티티 참조를 반환합니다. (DB 조회 없음)
+     *
+     * @param indicatorCode 지표 코드
+     * @return 지표 참조 (프록시, 트랜잭션 안에서 사용)
+     */
+    public Optional<EsgIndicator> getIndicatorReference(String indicatorCode) {
+        return findIndicator(indicatorCode).map(code -> entityManager.getReference(EsgIndicator.class, code));
+    }
+
+    /**
+     * 레지스트리를 비웁니다. 다음 조회 때 다시 읽습니다.
+     * <p>
+     * 트랜잭션 안에서 호출하면 커밋 직후에 비웁니다. (커밋 전 데이터를 다시 읽어오는 것을 방지)
+     * </p>
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot = null;
+                }
+            });
+        } else {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * 다른 서버에서 변경된 카테고리/지표를 반영하기 위해 주기적으로 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${esg.reference-registry.refresh-interval-ms:300000}",
+            initialDelayString = "${esg.reference-registry.refresh-interval-ms:300000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("ESG 기준 데이터 레지스트리 갱신 실패 (기존 데이터 유지): {}", e.getMessage());
+        }
+    }
+
+    private Optional<String> findIndicator(String indicatorCode) {
+        if (indicatorCode == null) {
+            return Optional.empty();
+        }
+        if (current().indicatorCodes.contains(indicatorCode)) {
+            return Optional.of(indicatorCode);
+        }
+        if (reloadAfterMiss() && current().indicatorCodes.contains(indicatorCode)) {
+            return Optional.of(indicatorCode);
+        }
+        return Optional.empty();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    // 없는 코드가 반복 요청되어도 DB를 계속 읽지 않도록 최소 간격 유지
+    private boolean reloadAfterMiss() {
+        Snapshot current = snapshot;
+        if (current != null
+                && System.nanoTime() - current.loadedAtNanos < TimeUnit.SECONDS.toNanos(MISS_RELOAD_INTERVAL_SECONDS)) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    private synchronized Snapshot reload() {
+        Snapshot loaded = readOnlyTransaction.execute(status -> {
+            Set<String> categoryCodes = new HashSet<>();
+            for (EsgCategory category : categoryRepository.findAll()) {
+                categoryCodes.add(category.getCategory());
+            }
+            Set<String> indicatorCodes = new HashSet<>();
+            for (EsgIndicator indicator : indicatorRepository.findAll()) {
+                indicatorCodes.add(indicator.getIndicatorCode());
+            }
+            return new Snapshot(Set.copyOf(categoryCodes), Set.copyOf(indicatorCodes), System.nanoTime());
+        });
+        snapshot = loaded;
+        log.debug("ESG 기준 데이터 레지스트리 로드: 카테고리 {}건, 지표 {}건",
+                loaded.categoryCodes.size(), loaded.indicatorCodes.size());
+        return loaded;
+    }
+
+    /**
+     * 한 번에 교체되는 코드 집합
+     */
+    private static final class Snapshot {
+
+        private final Set<String> categoryCodes;
+        private final Set<String> indicatorCodes;
+        private final long loadedAtNanos;
+
+        private Snapshot(Set<String> categoryCodes, Set<String> indicatorCodes, long loadedAtNanos) {
+            this.categoryCodes = categoryCodes;
+            this.indicatorCodes = indicatorCodes;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package dev.gyeoul.esginsightboard.service;
+
+import dev.gyeoul.esginsightboard.config.DatabasePlatform;
+import dev.gyeoul.esginsightboard.dto.SearchHit;
+import dev.gyeoul.esginsightboard.entity.ChartData;
+import dev.gyeoul.esginsightboard.entity.GriDataItem;
+import dev.gyeoul.esginsightboard.util.InvertedIndex;
+import dev.gyeoul.esginsightboard.util.NgramTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 차트 제목/설명, GRI 공시 제목/설명/값 전문 검색
+ * <p>
+ * 텍스트는 2글자 조각({@link NgramTokenizer})으로 색인하며, 검색어의 모든 조각을 포함한 항목을 관련도 순으로 반환합니다.
+ * 가중치는 제목 1.0, 설명 0.4, 공시 값 0.2 입니다. (PostgreSQL ts_rank 의 A/B/C 기본 가중치)
+ * </p>
+ *
+ * <ul>
+ *   <li>PostgreSQL: search_vector(tsvector) 컬럼과 GIN 인덱스로 DB에서 검색/순위 계산 (V11 마이그레이션)</li>
+ *   <li>H2: tsvector가 없으므로 처음 검색할 때 메모리 역색인({@link InvertedIndex})을 만들고,
+ *       JPA 저장/수정/삭제는 커밋 후 반영합니다(FullTextIndexListener). (로컬/테스트용, 단일 서버 기준)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class FullTextSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    // ts_rank 기본 가중치 {D, C, B, A} = {0.1, 0.2, 0.4, 1.0} 와 동일
+    private static final double WEIGHT_A = 1.0;
+    private static final double WEIGHT_B = 0.4;
+    private static final double WEIGHT_C = 0.2;
+
+    private static final String POSTGRESQL_CHART_SEARCH_SQL =
+            "SELECT c.id, ts_rank(c.search_vector, q) AS score "
+            + "FROM chart_data c, plainto_tsquery('simple', esg_ngram_text(?)) q "
+            + "WHERE c.user_id = ? AND c.search_vector @@ q "
+            + "ORDER BY score DESC, c.id DESC LIMIT ? OFFSET ?";
+
+    private static final String POSTGRESQL_CHART_COUNT_SQL =
+            "SELECT count(*) FROM chart_data "
+            + "WHERE user_id = ? AND search_vector @@ plainto_tsquery('simple', esg_ngram_text(?))";
+
+    private static final String POSTGRESQL_GRI_SEARCH_SQL =
+            "SELECT g.id, ts_rank(g.search_vector, q) AS score "
+            + "FROM gri_data_items g, plainto_tsquery('simple', esg_ngram_text(?)) q "
+            + "WHERE g.search_vector @@ q %s"
+            + "ORDER BY score DESC, g.id DESC LIMIT ? OFFSET ?";
+
+    private static final String POSTGRESQL_GRI_COUNT_SQL =
+            "SELECT count(*) FROM gri_data_items "
+            + "WHERE search_vector @@ plainto_tsquery('simple', esg_ngram_text(?)) %s";
+
+    private final DatabasePlatform databasePlatform;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final LocalIndex chartIndex;
+    private final LocalIndex griIndex;
+
+    public FullTextSearchService(DatabasePlatform databasePlatform, JdbcTemplate jdbcTemplate) {
+        this.databasePlatform = databasePlatform;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chartIndex = new LocalIndex("chart_data", index -> jdbcTemplate.query(
+                "SELECT id, user_id, title, description FROM chart_data",
+                rs -> {
+                    index.put(rs.getLong("id"), rs.getLong("user_id"), List.of(
+                            new InvertedIndex.Field(rs.getString("title"), WEIGHT_A),
+                            new InvertedIndex.Field(rs.getString("description"), WEIGHT_B)));
+                }));
+        this.griIndex = new LocalIndex("gri_data_items", index -> jdbcTemplate.query(
+                "SELECT id, company_id, disclosure_title, description, disclosure_value FROM gri_data_items",
+                rs -> {
+                    long companyId = rs.getLong("company_id");
+                    index.put(rs.getLong("id"), rs.wasNull() ? null : companyId, List.of(
+                            new InvertedIndex.Field(rs.getString("disclosure_title"), WEIGHT_A),
+                            new InvertedIndex.Field(rs.getString("description"), WEIGHT_B),
+                            new InvertedIndex.Field(rs.getString("disclosure_value"), WEIGHT_C)));
+                }));
+    }
+
+    /**
+     * 사용자의 차트를 제목/설명으로 검색합니다.
+     *
+     * @param query 검색어
+     * @param userId 차트 소유자 ID
+     * @param pageable 페이지 (정렬은 관련도 순으로 고정)
+     * @return 차트 ID와 관련도 점수 페이지
+     */
+    public Page<SearchHit<Long>> searchCharts(String query, Long userId, Pageable pageable) {
+        Pageable page = validate(query, pageable);
+        if (databasePlatform.isPostgreSql()) {
+            List<SearchHit<Long>> hits = jdbcTemplate.query(POSTGRESQL_CHART_SEARCH_SQL,
+                    (rs, rowNum) -> new SearchHit<>(rs.getLong("id"), rs.getDouble("score")),
+                    query, userId, page.getPageSize(), page.getOffset());
+            return PageableExecutionUtils.getPage(hits, page,
+                    () -> jdbcTemplate.queryForObject(POSTGRESQL_CHART_COUNT_SQL, Long.class, userId, query));
+        }
+        return chartIndex.search(query, userId, page);
+    }
+
+    /**
+     * GRI 데이터 항목을 공시 제목/설명/공시 값으로 검색합니다.
+     *
+     * @param query 검색어
+     * @param companyId 회사 ID (null이면 전체)
+     * @param pageable 페이지 (정렬은 관련도 순으로 고정)
+     * @return GRI 데이터 항목 ID와 관련도 점수 페이지
+     */
+    public Page<SearchHit<Long>> searchGriDataItems(String query, Long companyId, Pageable pageable) {
+        Pageable page = validate(query, pageable);
+        if (databasePlatform.isPostgreSql()) {
+            List<Object> args = new ArrayList<>(List.of(query));
+            if (companyId != null) {
+                args.add(companyId);
+            }
+            List<Object> countArgs = List.copyOf(args);
+            args.add(page.getPageSize());
+            args.add(page.getOffset());
+            String searchSql = String.format(POSTGRESQL_GRI_SEARCH_SQL, companyId != null ? "AND g.company_id = ? " : "");
+            String countSql = String.format(POSTGRESQL_GRI_COUNT_SQL, companyId != null ? "AND company_id = ?" : "");
+            List<SearchHit<Long>> hits = jdbcTemplate.query(searchSql,
+                    (rs, rowNum) -> new SearchHit<>(rs.getLong("id"), rs.getDouble("score")),
+                    args.toArray());
+            return PageableExecutionUtils.getPage(hits, page,
+                    () -> jdbcTemplate.queryForObject(countSql, Long.class, countArgs.toArray()));
+        }
+        return griIndex.search(query, companyId, page);
+    }
+
+    /**
+     * JPA로 변경된 차트/GRI 데이터 항목을 커밋 후 메모리 색인에 반영합니다. (H2 전용, PostgreSQL은 트리거가 처리)
+     *
+     * @param entity 변경된 엔티티
+     * @param removed 삭제 여부
+     */
+    public void onEntityChanged(Object entity, boolean removed) {
+        if (databasePlatform.isPostgreSql()) {
+            return;
+        }
+        Runnable apply;
+        if (entity instanceof ChartData chart) {
+            long id = chart.getId();
+            Long userId = chart.getUser() != null ? chart.getUser().getId() : null;
+            List<InvertedIndex.Field> fields = List.of(
+                    new InvertedIndex.Field(chart.getTitle(), WEIGHT_A),
+                    new InvertedIndex.Field(chart.getDescription(), WEIGHT_B));
+            apply = () -> chartIndex.apply(id, userId, removed ? null : fields);
+        } else if (entity instanceof GriDataItem item) {
+            long id = item.getId();
+            Long companyId = item.getCompany() != null ? item.getCompany().getId() : null;
+            List<InvertedIndex.Field> fields = List.of(
+                    new InvertedIndex.Field(item.getDisclosureTitle(), WEIGHT_A),
+                    new InvertedIndex.Field(item.getDescription(), WEIGHT_B),
+                    new InvertedIndex.Field(item.getDisclosureValue(), WEIGHT_C));
+            apply = () -> griIndex.apply(id, companyId, removed ? null : fields);
+        } else {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private Pageable validate(String query, Pageable pageable) {
+        if (query == null || NgramTokenizer.tokenize(query).isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        if (pageable == null || pageable.isUnpaged()) {
+            return PageRequest.of(0, MAX_PAGE_SIZE);
+        }
+        if (pageable.getPageSize() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 최대 " + MAX_PAGE_SIZE + "까지 지정할 수 있습니다.");
+        }
+        // 관련도 순으로 고정하므로 정렬 파라미터는 무시
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    /**
+     * 처음 검색할 때 DB에서 읽어오는 메모리 색인 (H2 전용)
+     * <p>
+     * 적재와 변경 반영을 같은 잠금으로 직렬화하므로, 적재 중 커밋된 변경은 적재가 끝난 뒤 덮어써집니다.
+     * 적재 전 변경은 적재할 때 DB에서 그대로 읽으므로 반영하지 않습니다.
+     * </p>
+     */
+    private static final class LocalIndex {
+
+        private final String name;
+        private final Consumer<InvertedIndex> loader;
+        private final InvertedIndex index = new InvertedIndex();
+        private volatile boolean loaded;
+
+        private LocalIndex(String name, Consumer<InvertedIndex> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        Page<SearchHit<Long>> search(String query, Long scope, Pageable page) {
+            ensureLoaded();
+            InvertedIndex.Result result = index.search(query, scope, page.getOffset(), page.getPageSize());
+            List<SearchHit<Long>> hits = result.hits().stream()
+                    .map(hit -> new SearchHit<>(hit.id(), hit.score()))
+                    .toList();
+            return PageableExecutionUtils.getPage(hits, page, result::total);
+        }
+
+        synchronized void apply(long id, Long scope, List<InvertedIndex.Field> fields) {
+            if (!loaded) {
+                return;
+            }
+            if (fields == null) {
+                index.remove(id);
+            } else {
+                index.put(id, scope, fields);
+            }
+        }
+
+        private void ensureLoaded() {
+            if (loaded) {
+                return;
+            }
+            synchronized (this) {
+                if (!loaded) {
+                    index.clear();
+                    loader.accept(index);
+                    loaded = true;
+                    log.debug("{} 전문 검색 메모리 색인 생성 완료", name);
+                }
+            }
+        }
+    }
+}
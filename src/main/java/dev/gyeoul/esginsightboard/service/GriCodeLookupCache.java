@@ -0,0 +1,128 @@
+package dev.gyeoul.esginsightboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.gyeoul.esginsightboard.dto.GriDataItemDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * GRI 코드 조회(표준 코드별, 공시 코드별) 결과 캐시
+ * <p>
+ * GriCodeInitializer가 채우는 GRI 코드 행은 거의 바뀌지 않고 반복 조회되지만, 회사별 업로드 데이터와 같은
+ * gri_data_items(PostgreSQL에서는 연도 파티션 테이블)에 있으므로 엔티티 2차 캐시 대신 조회 결과(DTO 목록)만 메모리에 둡니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>JPA로 GRI 데이터 항목이 저장/수정/삭제되면 트랜잭션이 끝난 뒤 전체를 비웁니다. (GriCodeCacheListener)</li>
+ *   <li>DB에서 직접 변경한 경우(파티션 분리 등)와 회사명 변경은 gri.code-cache.expire-after-write 이내에 반영됩니다.</li>
+ *   <li>값은 변경할 수 없는 목록이며 여러 요청이 같은 DTO를 공유하므로, 호출자는 항목을 수정하지 않아야 합니다.</li>
+ *   <li>적중률 등 통계는 actuator metrics의 cache.* 항목(cache=gri.codes)으로 노출됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GriCodeLookupCache {
+
+    private final Cache<Key, List<GriDataItemDto>> cache;
+
+    // 비울 때마다 증가 (비우는 도중 이전 데이터로 읽은 결과가 다시 저장되는 것을 방지)
+    private final AtomicLong generation = new AtomicLong();
+
+    public GriCodeLookupCache(@Value("${gri.code-cache.max-size:1000}") long maxSize,
+                              @Value("${gri.code-cache.expire-after-write:10m}") Duration expireAfterWrite,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gri.codes");
+    }
+
+    /**
+     * 표준 코드별 GRI 데이터 항목을 반환합니다. 캐시에 없으면 loader로 읽어 저장합니다.
+     *
+     * @param standardCode 표준 코드 (예: "GRI 302")
+     * @param loader DB 조회 함수
+     * @return 변경할 수 없는 목록
+     */
+    public List<GriDataItemDto> getByStandardCode(String standardCode, Supplier<List<GriDataItemDto>> loader) {
+        return get(new Key(Lookup.STANDARD_CODE, standardCode), loader);
+    }
+
+    /**
+     * 공시 코드별 GRI 데이터 항목을 반환합니다. 캐시에 없으면 loader로 읽어 저장합니다.
+     *
+     * @param disclosureCode 공시 코드 (예: "302-1")
+     * @param loader DB 조회 함수
+     * @return 변경할 수 없는 목록
+     */
+    public List<GriDataItemDto> getByDisclosureCode(String disclosureCode, Supplier<List<GriDataItemDto>> loader) {
+        return get(new Key(Lookup.DISCLOSURE_CODE, disclosureCode), loader);
+    }
+
+    /**
+     * 캐시를 비웁니다.
+     * <p>
+     * 트랜잭션 안에서 호출하면 트랜잭션이 끝난 직후(커밋/롤백 모두) 한 번만 비웁니다.
+     * 같은 트랜잭션에서 여러 번 호출해도(CSV 업로드 등) 등록은 한 번만 합니다.
+     * </p>
+     */
+    public void invalidateAll() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(GriCodeLookupCache.this);
+                clear();
+            }
+        });
+    }
+
+    private List<GriDataItemDto> get(Key key, Supplier<List<GriDataItemDto>> loader) {
+        List<GriDataItemDto> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedGeneration = generation.get();
+        List<GriDataItemDto> loaded = List.copyOf(loader.get());
+        cache.put(key, loaded);
+        // 읽는 도중 비워졌다면 이전 데이터일 수 있으므로 저장한 값을 다시 제거
+        if (generation.get() != loadedGeneration) {
+            cache.invalidate(key);
+        }
+        return loaded;
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("GRI 코드 조회 캐시 삭제");
+    }
+
+    private enum Lookup {
+        STANDARD_CODE,
+        DISCLOSURE_CODE
+    }
+
+    private record Key(Lookup lookup, String code) {
+    }
+}
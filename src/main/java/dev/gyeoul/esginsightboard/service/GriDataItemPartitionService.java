@@ -0,0 +1,99 @@
+package dev.gyeoul.esginsightboard.service;
+
+import dev.gyeoul.esginsightboard.config.DatabasePlatform;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * gri_data_items 연도별 파티션 관리 서비스 (PostgreSQL 전용)
+ * <p>
+ * PostgreSQL에서는 gri_data_items가 보고 시작일(reporting_period_start) 연도 기준 범위 파티션 테이블입니다.
+ * (V4 마이그레이션 참고) 이 서비스는 CSV 업로드 시 새 연도의 파티션을 미리 만들고, 연결된 연도 파티션 목록을 조회합니다.
+ * </p>
+ *
+ * <p>
+ * 오래된 연도 파티션의 분리(아카이브)는 모든 회사의 데이터에 영향을 주므로 API로 제공하지 않고,
+ * 운영자가 DB에서 {@code SELECT detach_gri_data_items_partition(연도)}로 실행합니다. (V4 마이그레이션 참고)
+ * </p>
+ *
+ * <p>
+ * H2 등 다른 데이터베이스에서는 파티셔닝을 사용하지 않으므로 모든 메서드가 아무 작업도 하지 않습니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GriDataItemPartitionService {
+
+    private static final String PARTITION_PREFIX = "gri_data_items_y";
+
+    private static final String FIND_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+            + "WHERE i.inhparent = 'gri_data_items'::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    /**
+     * 지정한 연도들의 파티션이 없으면 생성합니다.
+     * <p>
+     * 파티션 생성(DDL)은 업로드 트랜잭션과 분리된 별도 트랜잭션에서 실행되므로,
+     * 잠금을 짧게 유지하고 업로드가 실패해도 만들어진 파티션은 유지됩니다.
+     * 파티션은 DB에서 직접 분리될 수 있으므로 확인 결과를 캐시하지 않고 업로드마다 연도별로 한 번씩 확인합니다.
+     * </p>
+     *
+     * @param years 보고 시작 연도 목록
+     * @throws IllegalArgumentException 해당 연도의 분리된 아카이브 테이블이 남아 있는 경우
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensurePartitions(Collection<Integer> years) {
+        if (years.isEmpty() || !databasePlatform.isPostgreSql()) {
+            return;
+        }
+        for (Integer year : years) {
+            if (year == null) {
+                continue;
+            }
+            Boolean created;
+            try {
+                created = jdbcTemplate.queryForObject(
+                        "SELECT ensure_gri_data_items_partition(?)", Boolean.class, year);
+            } catch (DataAccessException e) {
+                // 분리된 아카이브 테이블이 같은 이름으로 남아 있으면 기본 파티션에 쌓이지 않도록 업로드를 거부
+                throw new IllegalArgumentException(year + "년 파티션이 분리(아카이브)된 상태라 데이터를 저장할 수 없습니다. "
+                        + "아카이브 테이블을 정리하거나 다시 연결한 뒤 시도해주세요.", e);
+            }
+            if (Boolean.TRUE.equals(created)) {
+                log.info("gri_data_items {}년 파티션 생성", year);
+            }
+        }
+    }
+
+    /**
+     * 현재 연결된 연도 파티션 목록을 조회합니다.
+     *
+     * @return 연도 목록 (오름차순, PostgreSQL이 아니면 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public SortedSet<Integer> getPartitionYears() {
+        SortedSet<Integer> years = new TreeSet<>();
+        if (!databasePlatform.isPostgreSql()) {
+            return years;
+        }
+        for (String name : jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class)) {
+            if (name.startsWith(PARTITION_PREFIX)) {
+                years.add(Integer.parseInt(name.substring(PARTITION_PREFIX.length())));
+            }
+        }
+        return years;
+    }
+}
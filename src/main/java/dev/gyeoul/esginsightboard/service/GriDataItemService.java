@@ -1,22 +1,47 @@
 package dev.gyeoul.esginsightboard.service;
 
+import dev.gyeoul.esginsightboard.config.DatabasePlatform;
 import dev.gyeoul.esginsightboard.dto.GriDataItemDto;
+import dev.gyeoul.esginsightboard.dto.GriDataItemSearchCondition;
+import dev.gyeoul.esginsightboard.dto.GriDataItemSummary;
+import dev.gyeoul.esginsightboard.dto.SearchHit;
 import dev.gyeoul.esginsightboard.entity.GriDataItem;
 import dev.gyeoul.esginsightboard.repository.GriDataItemRepository;
+import dev.gyeoul.esginsightboard.repository.GriDataItemSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class GriDataItemService {
 
+    /**
+     * 복합 검색에서 정렬 기준으로 허용하는 필드 (인덱스가 있거나 크기가 작은 컬럼만 허용)
+     */
+    private static final Set<String> SORTABLE_FIELDS = Set.of(
+            "id", "standardCode", "disclosureCode", "category", "verificationStatus",
+            "reportingPeriodStart", "reportingPeriodEnd", "numericValue", "createdAt", "updatedAt");
+
     private final GriDataItemRepository griDataItemRepository;
+    private final DatabasePlatform databasePlatform;
+    private final FullTextSearchService fullTextSearchService;
+    private final GriCodeLookupCache griCodeLookupCache;
     
     // 모든 GRI 데이터 항목 조회
     @Transactional(readOnly = true)
@@ -41,26 +66,40 @@ public class GriDataItemService {
                 .collect(Collectors.toList());
     }
     
-    // 특정 GRI 표준 코드에 대한 데이터 조회
+    // 특정 GRI 표준 코드에 대한 데이터 조회 (GRI 코드 조회 캐시 사용, 반환 목록은 변경 불가)
     @Transactional(readOnly = true)
     public List<GriDataItemDto> getGriDataItemsByStandardCode(String standardCode) {
-        return griDataItemRepository.findByStandardCode(standardCode).stream()
-                .map(GriDataItemDto::fromEntity)
-                .collect(Collectors.toList());
+        return griCodeLookupCache.getByStandardCode(standardCode, () ->
+                griDataItemRepository.findByStandardCode(standardCode).stream()
+                        .map(GriDataItemDto::fromEntity)
+                        .collect(Collectors.toList()));
     }
     
-    // 특정 공시 코드에 대한 데이터 조회
+    // 특정 공시 코드에 대한 데이터 조회 (GRI 코드 조회 캐시 사용, 반환 목록은 변경 불가)
     @Transactional(readOnly = true)
     public List<GriDataItemDto> getGriDataItemsByDisclosureCode(String disclosureCode) {
-        return griDataItemRepository.findByDisclosureCode(disclosureCode).stream()
+        return griCodeLookupCache.getByDisclosureCode(disclosureCode, () ->
+                griDataItemRepository.findByDisclosureCode(disclosureCode).stream()
+                        .map(GriDataItemDto::fromEntity)
+                        .collect(Collectors.toList()));
+    }
+    
+    // 특정 보고 기간 내의 데이터 조회 (보고 기간 종료일이 없는 항목은 진행 중인 기간으로 포함)
+    @Transactional(readOnly = true)
+    public List<GriDataItemDto> getGriDataItemsByReportingPeriod(LocalDate startDate, LocalDate endDate) {
+        return findItemsByReportingPeriod(startDate, endDate).stream()
                 .map(GriDataItemDto::fromEntity)
                 .collect(Collectors.toList());
     }
     
-    // 특정 보고 기간 내의 데이터 조회
+    // 보고 시작 연도 구간별 데이터 조회 (PostgreSQL에서는 해당 연도 파티션만 조회)
     @Transactional(readOnly = true)
-    public List<GriDataItemDto> getGriDataItemsByReportingPeriod(LocalDate startDate, LocalDate endDate) {
-        return griDataItemRepository.findItemsByReportingPeriod(endDate, startDate).stream()
+    public List<GriDataItemDto> getGriDataItemsByReportingYears(int fromYear, int toYear) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("시작 연도가 종료 연도보다 이후입니다: " + fromYear + " > " + toYear);
+        }
+        return griDataItemRepository.findItemsByReportingStartRange(
+                        LocalDate.of(fromYear, 1, 1), LocalDate.of(toYear + 1, 1, 1)).stream()
                 .map(GriDataItemDto::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -73,6 +112,123 @@ public class GriDataItemService {
                 .collect(Collectors.toList());
     }
     
+    // 필드 선택 조회: 모든 GRI 데이터 항목
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllGriDataItems(Set<String> fields) {
+        return selectFields(fields, griDataItemRepository::findAllSummaries, griDataItemRepository::findAll);
+    }
+    
+    // 필드 선택 조회: 카테고리별
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getGriDataItemsByCategory(String category, Set<String> fields) {
+        return selectFields(fields,
+                () -> griDataItemRepository.findSummariesByCategory(category),
+                () -> griDataItemRepository.findByCategory(category));
+    }
+    
+    // 필드 선택 조회: 표준 코드별 (캐시된 전체 항목에서 필드만 선택)
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getGriDataItemsByStandardCode(String standardCode, Set<String> fields) {
+        GriDataItemDto.validateFields(fields);
+        return getGriDataItemsByStandardCode(standardCode).stream()
+                .map(dto -> dto.toFieldMap(fields))
+                .collect(Collectors.toList());
+    }
+    
+    // 필드 선택 조회: 공시 코드별 (캐시된 전체 항목에서 필드만 선택)
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getGriDataItemsByDisclosureCode(String disclosureCode, Set<String> fields) {
+        GriDataItemDto.validateFields(fields);
+        return getGriDataItemsByDisclosureCode(disclosureCode).stream()
+                .map(dto -> dto.toFieldMap(fields))
+                .collect(Collectors.toList());
+    }
+    
+    // 필드 선택 조회: 보고 기간별
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getGriDataItemsByReportingPeriod(LocalDate startDate, LocalDate endDate, Set<String> fields) {
+        validateReportingPeriod(startDate, endDate);
+        return selectFields(fields,
+                () -> griDataItemRepository.findSummariesByReportingPeriod(endDate, startDate),
+                () -> findItemsByReportingPeriod(startDate, endDate));
+    }
+    
+    // 필드 선택 조회: 검증 상태별
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getGriDataItemsByVerificationStatus(String verificationStatus, Set<String> fields) {
+        return selectFields(fields,
+                () -> griDataItemRepository.findSummariesByVerificationStatus(verificationStatus),
+                () -> griDataItemRepository.findByVerificationStatus(verificationStatus));
+    }
+    
+    // 보고 기간 겹침 조회 (PostgreSQL에서는 GiST daterange 인덱스 사용, 두 경로의 결과는 같음)
+    private List<GriDataItem> findItemsByReportingPeriod(LocalDate startDate, LocalDate endDate) {
+        validateReportingPeriod(startDate, endDate);
+        return databasePlatform.isPostgreSql()
+                ? griDataItemRepository.findItemsOverlappingPeriod(startDate, endDate)
+                : griDataItemRepository.findItemsByReportingPeriod(endDate, startDate);
+    }
+
+    private static void validateReportingPeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("보고 기간 시작일이 종료일보다 이후입니다: " + startDate + " > " + endDate);
+        }
+    }
+
+    /**
+     * 요청한 필드만 응답하는 공통 조회 로직
+     * <p>
+     * 긴 텍스트 필드(disclosureValue, description)가 요청되지 않았다면 요약 프로젝션 쿼리로
+     * 짧은 컬럼만 조회하고, 요청된 경우에만 엔티티 전체를 조회합니다.
+     * </p>
+     */
+    private List<Map<String, Object>> selectFields(Set<String> fields,
+                                                   Supplier<List<GriDataItemSummary>> summaryQuery,
+                                                   Supplier<List<GriDataItem>> entityQuery) {
+        GriDataItemDto.validateFields(fields);
+        Stream<GriDataItemDto> dtos = GriDataItemDto.requiresLargeText(fields)
+                ? entityQuery.get().stream().map(GriDataItemDto::fromEntity)
+                : summaryQuery.get().stream().map(GriDataItemDto::fromSummary);
+        return dtos.map(dto -> dto.toFieldMap(fields))
+                .collect(Collectors.toList());
+    }
+    
+    // 복합 조건 검색 (카테고리, 표준 코드, 공시 코드, 검증 상태, 회사, 보고 기간 + 정렬/페이지)
+    @Transactional(readOnly = true)
+    public Page<GriDataItemDto> searchGriDataItems(GriDataItemSearchCondition condition, Pageable pageable) {
+        validateSort(pageable.getSort());
+        return griDataItemRepository.findAll(GriDataItemSpecifications.fromCondition(condition), pageable)
+                .map(GriDataItemDto::fromEntity);
+    }
+    
+    // 공시 제목/설명/공시 값 전문 검색 (관련도 순 페이지, companyId가 없으면 전체)
+    @Transactional(readOnly = true)
+    public Page<SearchHit<GriDataItemDto>> searchGriDataItemsByText(String query, Long companyId, Pageable pageable) {
+        Page<SearchHit<Long>> hits = fullTextSearchService.searchGriDataItems(query, companyId, pageable);
+        Map<Long, GriDataItem> items = hits.isEmpty()
+                ? Map.of()
+                : griDataItemRepository.findAllById(hits.map(SearchHit::item).getContent()).stream()
+                        .collect(Collectors.toMap(GriDataItem::getId, Function.identity()));
+        // 검색 직후 삭제된 항목은 제외하고 관련도 순서 유지
+        List<SearchHit<GriDataItemDto>> content = new ArrayList<>(hits.getNumberOfElements());
+        for (SearchHit<Long> hit : hits) {
+            GriDataItem item = items.get(hit.item());
+            if (item != null) {
+                content.add(new SearchHit<>(GriDataItemDto.fromEntity(item), hit.score()));
+            }
+        }
+        return new PageImpl<>(content, hits.getPageable(), hits.getTotalElements());
+    }
+    
+    // 허용되지 않은 필드로 정렬하면 전체 스캔이 발생하므로 요청 단계에서 거부
+    private void validateSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("정렬할 수 없는 필드입니다: " + order.getProperty());
+            }
+        }
+    }
+    
     // GRI 데이터 항목 저장
     @Transactional
     public GriDataItemDto saveGriDataItem(GriDataItemDto griDataItemDto) {
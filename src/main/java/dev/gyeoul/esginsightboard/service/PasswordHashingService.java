@@ -0,0 +1,125 @@
+package dev.gyeoul.esginsightboard.service;
+
+import dev.gyeoul.esginsightboard.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱(BCrypt) 전용 실행기
+ * <p>
+ * BCrypt 비교/암호화는 의도적으로 CPU를 많이 사용하므로, 로그인이 몰릴 때 요청 스레드(Tomcat)에서
+ * 직접 실행하면 대시보드/데이터 API를 처리할 스레드가 부족해집니다.
+ * 이 서비스는 CPU 코어 수만큼의 전용 스레드와 크기가 제한된 대기열에서 해싱을 실행하며,
+ * 대기열이 가득 차면 기다리지 않고 즉시 {@link TooManyRequestsException}(HTTP 429)을 발생시킵니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>{@link #matches(String, String)}: 결과를 CompletableFuture로 반환하므로 로그인 요청 스레드는 해싱을 기다리지 않고 반환됩니다.</li>
+ *   <li>{@link #encode(String)}: 회원가입 등 호출 빈도가 낮은 곳에서 사용하며, 완료될 때까지 기다립니다.</li>
+ *   <li>해싱 소요 시간은 "password.hash" 타이머(operation 태그), 대기열/스레드 상태는 "password.hash.executor" 지표로 확인할 수 있습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${security.password.hashing.threads:0}") int threads,
+                                  @Value("${security.password.hashing.queue-capacity:100}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.matchesTimer = Timer.builder("password.hash")
+                .description("비밀번호 해싱 소요 시간")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hash")
+                .description("비밀번호 해싱 소요 시간")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("대기열 포화로 거부된 해싱 요청 수")
+                .register(meterRegistry);
+        new ExecutorServiceMetrics(executor, "password.hash.executor", Tags.empty()).bindTo(meterRegistry);
+
+        log.info("비밀번호 해싱 실행기: 스레드 {}개, 대기열 {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 평문 비밀번호와 저장된 해시를 비교합니다.
+     *
+     * @param rawPassword 입력받은 평문 비밀번호
+     * @param encodedPassword 저장된 암호화된 비밀번호
+     * @return 일치 여부 (해싱 스레드에서 완료됨)
+     * @throws TooManyRequestsException 해싱 대기열이 가득 찬 경우 즉시 발생
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 평문 비밀번호를 암호화합니다. (완료될 때까지 대기)
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 암호화된 비밀번호
+     * @throws TooManyRequestsException 해싱 대기열이 가득 찬 경우 즉시 발생
+     */
+    public String encode(String rawPassword) {
+        try {
+            return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword))).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                    RETRY_AFTER_SECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,189 @@
+package dev.gyeoul.esginsightboard.service;
+
+import dev.gyeoul.esginsightboard.entity.RevokedToken;
+import dev.gyeoul.esginsightboard.repository.RevokedTokenRepository;
+import dev.gyeoul.esginsightboard.security.VerifiedTokenCache;
+import dev.gyeoul.esginsightboard.util.BloomFilter;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 폐기(로그아웃) 서비스
+ * <p>
+ * 폐기된 토큰의 jti는 revoked_tokens 테이블에 저장되며, 각 서버는 이를 메모리에 보관하여
+ * 요청마다 DB를 조회하지 않고 상수 시간에 폐기 여부를 확인합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>블룸 필터: 대부분의 정상 토큰을 "확실히 폐기되지 않음"으로 즉시 통과시킵니다.</li>
+ *   <li>정확한 집합(jti → 만료 시각): 블룸 필터가 "있을 수 있음"이라고 답한 경우에만 확인합니다.</li>
+ *   <li>다른 서버에서 폐기한 토큰은 jwt.revocation.refresh-interval-ms 주기로 DB에서 다시 읽어 반영합니다.</li>
+ *   <li>만료 시각이 지난 jti는 메모리 갱신 시 제외되고, DB에서는 jwt.revocation.prune-interval-ms 주기로 삭제됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_BLOOM_CAPACITY = 1024;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 갱신 시 통째로 교체되는 스냅샷 (조회는 잠금 없이 수행)
+    private volatile Snapshot snapshot = Snapshot.empty(MIN_BLOOM_CAPACITY);
+
+    // 이 서버에서 폐기했지만 아직 갱신 시 DB에서 읽히지 않은 jti → 만료 시각 (갱신 때마다 새 스냅샷에 합침)
+    private final Map<String, Long> localRevocations = new ConcurrentHashMap<>();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  VerifiedTokenCache verifiedTokenCache) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * 애플리케이션 시작 시 폐기 목록을 불러옵니다.
+     */
+    @PostConstruct
+    void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. (DB 조회 없음)
+     *
+     * @param jti 토큰의 jti 클레임 (없으면 폐기되지 않은 것으로 간주)
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        Snapshot current = snapshot;
+        return current.bloomFilter.mightContain(jti) && current.revoked.containsKey(jti);
+    }
+
+    /**
+     * 토큰을 폐기합니다.
+     * <p>
+     * DB에 저장하는 동시에 이 서버의 메모리 목록과 검증 결과 캐시에 즉시 반영합니다.
+     * </p>
+     *
+     * @param token JWT 토큰 원문 (검증 결과 캐시에서 제거하기 위해 사용)
+     * @param claims 서명 검증이 끝난 클레임
+     * @throws IllegalArgumentException jti 또는 만료 시각이 없는 토큰인 경우 발생
+     */
+    @Transactional
+    public void revoke(String token, Claims claims) {
+        String jti = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (jti == null || expiration == null) {
+            throw new IllegalArgumentException("폐기할 수 없는 토큰입니다. 다시 로그인한 후 시도해주세요.");
+        }
+        if (!revokedTokenRepository.existsById(jti)) {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .jti(jti)
+                    .userId(claims.get("id", Long.class))
+                    .expiresAt(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()))
+                    .build());
+        }
+        // 로컬 목록에 먼저 기록해야, 갱신이 스냅샷을 교체하는 중이어도 새 스냅샷에 합쳐짐
+        localRevocations.put(jti, expiration.getTime());
+        snapshot.add(jti, expiration.getTime());
+        verifiedTokenCache.invalidate(token);
+        log.info("토큰 폐기: jti={}", jti);
+    }
+
+    /**
+     * DB의 폐기 목록으로 메모리 스냅샷을 다시 만듭니다.
+     * <p>
+     * 이 서버에서 폐기한 항목은 아직 커밋되지 않았거나 조회 이후에 추가되었을 수 있으므로,
+     * DB에서 읽힐 때까지 로컬 목록에 남겨 두고 새 스냅샷에 합칩니다.
+     * 교체 후에도 한 번 더 합쳐, 교체 직전에 이전 스냅샷에만 추가된 항목이 빠지지 않도록 합니다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:30000}",
+            initialDelayString = "${jwt.revocation.refresh-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        List<RevokedToken> active;
+        try {
+            active = revokedTokenRepository.findActive(LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("토큰 폐기 목록 갱신 실패 (기존 목록 유지): {}", e.getMessage());
+            return;
+        }
+
+        Snapshot next = Snapshot.empty(Math.max(MIN_BLOOM_CAPACITY, (active.size() + localRevocations.size()) * 2));
+        for (RevokedToken revokedToken : active) {
+            next.add(revokedToken.getJti(), revokedToken.getExpiresAt()
+                    .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        // DB에서 읽힌 항목과 만료된 항목은 로컬 목록에서 제외 (다음 갱신부터는 DB 조회로 충분)
+        localRevocations.entrySet().removeIf(entry ->
+                entry.getValue() <= now || next.revoked.containsKey(entry.getKey()));
+        next.mergeUnexpired(localRevocations, now);
+        snapshot = next;
+        next.mergeUnexpired(localRevocations, now);
+        log.debug("토큰 폐기 목록 갱신: {}건", next.revoked.size());
+    }
+
+    /**
+     * 만료 시각이 지난 폐기 토큰을 DB에서 삭제합니다.
+     * (만료된 토큰은 서명 검증 단계에서 거부되므로 더 이상 보관할 필요가 없음)
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.prune-interval-ms:3600000}",
+            initialDelayString = "${jwt.revocation.prune-interval-ms:3600000}")
+    @Transactional
+    public void pruneExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 폐기 토큰 {}건 삭제", deleted);
+        }
+    }
+
+    /**
+     * 폐기 목록 스냅샷 (블룸 필터 + jti별 만료 시각)
+     */
+    private static final class Snapshot {
+
+        private final BloomFilter bloomFilter;
+        private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+        private Snapshot(BloomFilter bloomFilter) {
+            this.bloomFilter = bloomFilter;
+        }
+
+        static Snapshot empty(int expectedInsertions) {
+            return new Snapshot(BloomFilter.create(expectedInsertions, BLOOM_FALSE_POSITIVE_RATE));
+        }
+
+        void mergeUnexpired(Map<String, Long> other, long now) {
+            other.forEach((jti, expiresAt) -> {
+                if (expiresAt > now && !revoked.containsKey(jti)) {
+                    add(jti, expiresAt);
+                }
+            });
+        }
+
+        void add(String jti, long expiresAtMillis) {
+            // 정확한 집합을 먼저 채워야 블룸 필터 통과 직후 조회에서 누락되지 않음
+            revoked.put(jti, expiresAtMillis);
+            bloomFilter.put(jti);
+        }
+    }
+}
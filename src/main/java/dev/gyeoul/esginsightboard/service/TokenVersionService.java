@@ -0,0 +1,85 @@
+package dev.gyeoul.esginsightboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.gyeoul.esginsightboard.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 토큰 버전을 관리하는 서비스
+ * <p>
+ * 클레임 기반 인증에서는 요청마다 users 테이블을 조회하지 않고 JWT 클레임으로 사용자 정보를 만듭니다.
+ * 대신 토큰의 "ver" 클레임이 사용자의 현재 토큰 버전과 같은지 확인하여,
+ * 버전이 올라간(전체 로그아웃 등) 사용자의 이전 토큰을 거부합니다.
+ * </p>
+ *
+ * <p>
+ * 현재 버전은 메모리에 캐시되므로 사용자당 최초 1회(및 캐시 만료 시)만 DB를 조회합니다.
+ * 여러 서버로 운영하는 경우 다른 서버에서 올린 버전은 캐시 만료 시간(jwt.token-version.cache-ttl) 이내에 반영됩니다.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TokenVersionService {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> currentVersions;
+
+    public TokenVersionService(UserRepository userRepository,
+                               @Value("${jwt.token-version.cache-ttl:5m}") Duration cacheTtl,
+                               @Value("${jwt.token-version.cache-size:10000}") long cacheSize) {
+        this.userRepository = userRepository;
+        this.currentVersions = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * 토큰 버전이 사용자의 현재 버전과 같은지 확인합니다.
+     *
+     * @param userId 사용자 ID (토큰의 "id" 클레임)
+     * @param tokenVersion 토큰 버전 (토큰의 "ver" 클레임)
+     * @return 현재 버전이면 true, 사용자가 없거나 버전이 다르면 false
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        if (userId == null) {
+            return false;
+        }
+        // 존재하지 않는 사용자(null)는 캐시하지 않음
+        Integer current = currentVersions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(null));
+        return current != null && current == tokenVersion;
+    }
+
+    /**
+     * 사용자의 토큰 버전을 올려 지금까지 발급된 모든 토큰을 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우 발생
+     */
+    @Transactional
+    public void revokeAllTokens(Long userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId);
+        }
+        currentVersions.invalidate(userId);
+        // 커밋 전에 다른 요청이 이전 버전을 다시 캐시하지 않도록 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    currentVersions.invalidate(userId);
+                }
+            });
+        }
+        log.info("사용자 {}의 토큰 버전 변경 (기존 토큰 전체 무효화)", userId);
+    }
+}
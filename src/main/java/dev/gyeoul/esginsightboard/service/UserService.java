@@ -6,6 +6,7 @@ import dev.gyeoul.esginsightboard.dto.SignupRequest;
 import dev.gyeoul.esginsightboard.dto.UserDto;
 import dev.gyeoul.esginsightboard.entity.Company;
 import dev.gyeoul.esginsightboard.entity.User;
+import dev.gyeoul.esginsightboard.exception.TooManyRequestsException;
 import dev.gyeoul.esginsightboard.exception.UserAlreadyExistsException;
 import dev.gyeoul.esginsightboard.repository.CompanyRepository;
 import dev.gyeoul.esginsightboard.repository.UserRepository;
@@ -14,11 +15,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스
@@ -32,7 +33,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final JwtTokenUtil jwtTokenUtil;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     /**
      * 회원가입 처리
@@ -107,7 +108,7 @@ public class UserService {
     private User createAndSaveUser(SignupRequest request, Company company) {
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashingService.encode(request.getPassword()))
                 .name(request.getName())
                 .companyName(request.getCompanyName())
                 .ceoName(request.getCeoName())
@@ -122,27 +123,36 @@ public class UserService {
 
     /**
      * 로그인 처리
+     * <p>
+     * 사용자 조회는 호출한 스레드에서, 비밀번호 비교(BCrypt)는 해싱 전용 스레드에서 수행합니다.
+     * 반환된 CompletableFuture는 비밀번호 비교가 끝난 뒤 토큰과 함께 완료되며,
+     * 비밀번호가 일치하지 않으면 BadCredentialsException으로 실패합니다.
+     * </p>
      *
      * @param request 로그인 요청 정보
      * @return 로그인 응답 (JWT 토큰과 사용자 정보 포함)
      * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우 발생
-     * @throws BadCredentialsException 비밀번호가 일치하지 않는 경우 발생
+     * @throws TooManyRequestsException 비밀번호 해싱 대기열이 가득 찬 경우 발생
      */
     @Transactional(readOnly = true)
-    public LoginResponse login(LoginRequest request) {
+    public CompletableFuture<LoginResponse> login(LoginRequest request) {
         // 이메일로 사용자 조회
         User user = findUserByEmailOrThrow(request.getEmail());
         
-        // 비밀번호 검증
-        validatePassword(request.getPassword(), user.getPassword());
-        
-        // 토큰 생성 및 응답 구성
+        // 해싱 스레드에서는 영속성 컨텍스트를 사용할 수 없으므로 필요한 값을 미리 꺼내둠
         UserDto userDto = UserDto.fromEntity(user);
-        String token = jwtTokenUtil.generateToken(userDto);
-        
-        log.info("사용자 로그인 성공: {}", request.getEmail());
+        int tokenVersion = user.getTokenVersion();
         
-        return buildLoginResponse(token, userDto);
+        // 비밀번호 검증 후 토큰 생성 및 응답 구성
+        return passwordHashingService.matches(request.getPassword(), user.getPassword())
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new BadCredentialsException("비밀번호가 일치하지 않습니다");
+                    }
+                    String token = jwtTokenUtil.generateToken(userDto, tokenVersion);
+                    log.info("사용자 로그인 성공: {}", request.getEmail());
+                    return buildLoginResponse(token, userDto);
+                });
     }
     
     /**
@@ -157,19 +167,6 @@ public class UserService {
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
     }
     
-    /**
-     * 비밀번호를 검증하는 메서드
-     * 
-     * @param rawPassword 입력받은 평문 비밀번호
-     * @param encodedPassword 저장된 암호화된 비밀번호
-     * @throws BadCredentialsException 비밀번호가 일치하지 않는 경우 발생
-     */
-    private void validatePassword(String rawPassword, String encodedPassword) {
-        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
-            throw new BadCredentialsException("비밀번호가 일치하지 않습니다");
-        }
-    }
-    
     /**
      * 로그인 응답 객체를 생성하는 메서드
      * 
@@ -197,4 +194,16 @@ public class UserService {
         return userRepository.findByEmail(email)
                 .map(UserDto::fromEntity);
     }
+    
+    /**
+     * ID로 사용자 정보 조회
+     *
+     * @param id 사용자 ID
+     * @return 사용자 정보 DTO (Optional)
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserDto> getUserById(Long id) {
+        return userRepository.findById(id)
+                .map(UserDto::fromEntity);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,108 @@
+package dev.gyeoul.esginsightboard.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터
+ * <p>
+ * "확실히 없음" 또는 "있을 수도 있음"을 상수 시간에 판단하는 확률적 집합입니다.
+ * {@link #mightContain(String)}가 false이면 값이 없다는 것이 보장되며,
+ * true이면 정확한 집합으로 한 번 더 확인해야 합니다. (거짓 양성 가능)
+ * </p>
+ *
+ * <p>
+ * 비트 배열은 {@link AtomicLongArray}로 관리하므로 여러 스레드에서 동시에 추가/조회할 수 있습니다.
+ * </p>
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        int words = (int) Math.max(1, (bitCount + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 항목 수와 허용 거짓 양성 확률로 블룸 필터를 생성합니다.
+     *
+     * @param expectedInsertions 예상 항목 수 (1 이상)
+     * @param falsePositiveRate 허용 거짓 양성 확률 (0 초과 1 미만, 예: 0.01)
+     * @return 블룸 필터
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("거짓 양성 확률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        int n = Math.max(1, expectedInsertions);
+        // 최적 비트 수 m = -n ln(p) / (ln 2)^2, 최적 해시 수 k = (m / n) ln 2
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    /**
+     * 값을 추가합니다.
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            setBit(index);
+        }
+    }
+
+    /**
+     * 값이 포함되어 있을 수 있는지 확인합니다.
+     *
+     * @return false이면 확실히 없음, true이면 있을 수 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    // FNV-1a 64비트 해시 후 비트 혼합
+    private static long hash64(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    // SplitMix64 최종 혼합 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
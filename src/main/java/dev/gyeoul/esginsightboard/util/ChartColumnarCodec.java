@@ -0,0 +1,334 @@
+package dev.gyeoul.esginsightboard.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.dto.ChartDataDto;
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차트 목록 열(column) 지향 바이너리 포맷 (application/vnd.esg.chart-columnar)
+ * <p>
+ * 시리즈를 {label, value} 객체 배열 대신 열 단위로 보냅니다.
+ * label은 중복을 제거한 사전 + 사전 번호 배열(사전 크기에 따라 1/2/4바이트), value는 float64 배열로 인코딩하므로
+ * 같은 연도/월 라벨이 반복되는 시계열은 JSON보다 훨씬 작습니다.
+ * </p>
+ *
+ * <p>
+ * 헤더/길이 등 단일 값은 big-endian(DataView 기본값)이고, 열 데이터(label 번호, value)는 little-endian이며
+ * 응답 시작 기준으로 요소 크기의 배수 위치에서 시작하도록 0으로 채웁니다(padding).
+ * 따라서 브라우저(little-endian)는 복사 없이 {@code new Float64Array(buffer, offset, pointCount)},
+ * {@code new Uint16Array(...)} 등으로 열을 바로 읽을 수 있습니다. 단일 값은 {@code DataView.getInt32(offset)}로 읽습니다.
+ * </p>
+ *
+ * <pre>
+ * 단일 정수는 big-endian, 문자열은 int32 바이트 길이(-1 = null) + UTF-8
+ *
+ * 헤더     : "ESGC" (4바이트) | version uint8 (=1) | chartCount int32
+ * 차트마다 : id int64 (-1 = null) | userId int64 (-1 = null)
+ *            title, description, category, indicator, chartType 문자열 | chartGrid int32 (-1 = null)
+ *            pointCount int32 (-1 = data null)
+ *            labelDictSize int32 | 사전 문자열 labelDictSize개
+ *            [0~3바이트 padding] label 번호 pointCount개, little-endian (0 = null, k = 사전 k-1번째)
+ *                 (labelDictSize + 1 이 256 이하면 uint8, 65536 이하면 uint16(2바이트 정렬), 그 외 int32(4바이트 정렬))
+ *            value 존재 비트맵 ceil(pointCount / 8) 바이트 (LSB 우선, 1 = 값 있음)
+ *            [0~7바이트 padding] value float64 pointCount개, little-endian, 8바이트 정렬 (값이 없으면 0)
+ *            extra 문자열: label/value 외 속성이 있는 점만 {"점 번호": {속성}} JSON (없으면 null)
+ *
+ * data 안의 null 항목은 label/value가 없는 빈 항목으로 전송됩니다.
+ * </pre>
+ */
+public final class ChartColumnarCodec {
+
+    public static final String MEDIA_TYPE = "application/vnd.esg.chart-columnar";
+
+    private static final byte[] MAGIC = {'E', 'S', 'G', 'C'};
+    private static final int VERSION = 1;
+
+    private static final TypeReference<Map<String, Map<String, Object>>> EXTRA_TYPE = new TypeReference<>() {
+    };
+
+    private ChartColumnarCodec() {
+    }
+
+    /**
+     * 차트 목록을 인코딩합니다.
+     *
+     * @param charts 차트 목록
+     * @param output 출력 스트림 (닫지 않음, 정렬 위치 계산을 위해 응답의 처음부터 써야 함)
+     * @param objectMapper extra 속성 직렬화용
+     */
+    public static void encode(List<ChartDataDto> charts, OutputStream output, ObjectMapper objectMapper)
+            throws IOException {
+        DataOutputStream out = new DataOutputStream(output);
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(charts.size());
+        for (ChartDataDto chart : charts) {
+            writeChart(out, chart, objectMapper);
+        }
+        out.flush();
+    }
+
+    /**
+     * 인코딩된 차트 목록을 읽습니다. (클라이언트 구현 참고 및 검증용)
+     *
+     * @param input 입력 스트림
+     * @param objectMapper extra 속성 역직렬화용
+     * @return 차트 목록
+     */
+    public static List<ChartDataDto> decode(InputStream input, ObjectMapper objectMapper) throws IOException {
+        PositionInputStream position = new PositionInputStream(input);
+        DataInputStream in = new DataInputStream(position);
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        int version = in.readUnsignedByte();
+        if (!Arrays.equals(magic, MAGIC) || version != VERSION) {
+            throw new IOException("지원하지 않는 차트 바이너리 포맷입니다.");
+        }
+        int count = in.readInt();
+        List<ChartDataDto> charts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            charts.add(readChart(in, position, objectMapper));
+        }
+        return charts;
+    }
+
+    private static void writeChart(DataOutputStream out, ChartDataDto chart, ObjectMapper objectMapper)
+            throws IOException {
+        out.writeLong(chart.getId() != null ? chart.getId() : -1L);
+        out.writeLong(chart.getUserId() != null ? chart.getUserId() : -1L);
+        writeString(out, chart.getTitle());
+        writeString(out, chart.getDescription());
+        writeString(out, chart.getCategory());
+        writeString(out, chart.getIndicator());
+        writeString(out, chart.getChartType());
+        out.writeInt(chart.getChartGrid() != null ? chart.getChartGrid() : -1);
+
+        List<ChartSeriesPoint> points = chart.getData();
+        if (points == null) {
+            out.writeInt(-1);
+            return;
+        }
+        int size = points.size();
+        out.writeInt(size);
+
+        // label 사전 (처음 나온 순서)
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        int[] labelCodes = new int[size];
+        for (int i = 0; i < size; i++) {
+            ChartSeriesPoint point = points.get(i);
+            String label = point != null ? point.getLabel() : null;
+            labelCodes[i] = label == null ? 0 : dictionary.computeIfAbsent(label, key -> dictionary.size() + 1);
+        }
+        out.writeInt(dictionary.size());
+        for (String label : dictionary.keySet()) {
+            writeString(out, label);
+        }
+        int width = codeWidth(dictionary.size());
+        pad(out, width);
+        for (int code : labelCodes) {
+            writeCode(out, code, width);
+        }
+
+        // value 존재 비트맵 + float64 열
+        byte[] presence = new byte[(size + 7) / 8];
+        for (int i = 0; i < size; i++) {
+            ChartSeriesPoint point = points.get(i);
+            if (point != null && point.getValue() != null) {
+                presence[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        out.write(presence);
+        pad(out, Double.BYTES);
+        for (ChartSeriesPoint point : points) {
+            double value = point != null && point.getValue() != null ? point.getValue() : 0d;
+            out.writeLong(Long.reverseBytes(Double.doubleToRawLongBits(value)));
+        }
+
+        // label/value 외 속성 (대부분 없음)
+        Map<String, Map<String, Object>> extras = null;
+        for (int i = 0; i < size; i++) {
+            ChartSeriesPoint point = points.get(i);
+            if (point != null && !point.getExtra().isEmpty()) {
+                if (extras == null) {
+                    extras = new LinkedHashMap<>();
+                }
+                extras.put(String.valueOf(i), point.getExtra());
+            }
+        }
+        writeString(out, extras != null ? objectMapper.writeValueAsString(extras) : null);
+    }
+
+    private static ChartDataDto readChart(DataInputStream in, PositionInputStream position, ObjectMapper objectMapper)
+            throws IOException {
+        ChartDataDto chart = new ChartDataDto();
+        long id = in.readLong();
+        long userId = in.readLong();
+        chart.setId(id >= 0 ? id : null);
+        chart.setUserId(userId >= 0 ? userId : null);
+        chart.setTitle(readString(in));
+        chart.setDescription(readString(in));
+        chart.setCategory(readString(in));
+        chart.setIndicator(readString(in));
+        chart.setChartType(readString(in));
+        int grid = in.readInt();
+        chart.setChartGrid(grid >= 0 ? grid : null);
+
+        int size = in.readInt();
+        if (size < 0) {
+            return chart;
+        }
+        String[] dictionary = new String[in.readInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString(in);
+        }
+        int width = codeWidth(dictionary.length);
+        in.skipNBytes(position.paddingTo(width));
+        String[] labels = new String[size];
+        for (int i = 0; i < size; i++) {
+            int code = readCode(in, width);
+            labels[i] = code == 0 ? null : dictionary[code - 1];
+        }
+        byte[] presence = new byte[(size + 7) / 8];
+        in.readFully(presence);
+        in.skipNBytes(position.paddingTo(Double.BYTES));
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = Double.longBitsToDouble(Long.reverseBytes(in.readLong()));
+        }
+        String extraJson = readString(in);
+        Map<String, Map<String, Object>> extras = extraJson != null
+                ? objectMapper.readValue(extraJson, EXTRA_TYPE) : new HashMap<>();
+
+        List<ChartSeriesPoint> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean hasValue = (presence[i >>> 3] & (1 << (i & 7))) != 0;
+            Map<String, Object> extra = extras.get(String.valueOf(i));
+            if (extra == null) {
+                points.add(new ChartSeriesPoint(labels[i], hasValue ? values[i] : null));
+                continue;
+            }
+            // extra에는 label/value가 문자열/숫자가 아니었던 점의 원래 값도 들어 있음
+            Map<String, Object> properties = new LinkedHashMap<>(extra);
+            if (labels[i] != null) {
+                properties.put("label", labels[i]);
+            }
+            if (hasValue) {
+                properties.put("value", values[i]);
+            }
+            ChartSeriesPoint point = objectMapper.convertValue(properties, ChartSeriesPoint.class);
+            points.add(point);
+        }
+        chart.setData(points);
+        return chart;
+    }
+
+    private static int codeWidth(int dictionarySize) {
+        int maxCode = dictionarySize + 1;
+        return maxCode <= 256 ? 1 : maxCode <= 65536 ? 2 : 4;
+    }
+
+    // 열 데이터는 little-endian (TypedArray로 바로 읽을 수 있도록)
+    private static void writeCode(DataOutputStream out, int code, int width) throws IOException {
+        switch (width) {
+            case 1 -> out.writeByte(code);
+            case 2 -> out.writeShort(Short.reverseBytes((short) code));
+            default -> out.writeInt(Integer.reverseBytes(code));
+        }
+    }
+
+    private static int readCode(DataInputStream in, int width) throws IOException {
+        return switch (width) {
+            case 1 -> in.readUnsignedByte();
+            case 2 -> Short.reverseBytes(in.readShort()) & 0xFFFF;
+            default -> Integer.reverseBytes(in.readInt());
+        };
+    }
+
+    // 지금까지 쓴 바이트 수(스트림 시작 기준)가 alignment의 배수가 되도록 0을 씀
+    private static void pad(DataOutputStream out, int alignment) throws IOException {
+        while (out.size() % alignment != 0) {
+            out.writeByte(0);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 읽은 바이트 수를 세는 입력 스트림 (열 데이터 앞의 padding 크기 계산용)
+     */
+    private static final class PositionInputStream extends FilterInputStream {
+
+        private long position;
+
+        private PositionInputStream(InputStream in) {
+            super(in);
+        }
+
+        int paddingTo(int alignment) {
+            return (int) ((alignment - position % alignment) % alignment);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                position++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                position += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
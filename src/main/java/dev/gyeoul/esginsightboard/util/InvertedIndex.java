@@ -0,0 +1,179 @@
+package dev.gyeoul.esginsightboard.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 (H2 전문 검색용)
+ * <p>
+ * 토큰({@link NgramTokenizer}) → 문서 ID → 가중 빈도 목록을 유지하며,
+ * 검색어의 모든 토큰을 포함한 문서만 반환합니다(PostgreSQL plainto_tsquery 와 같은 AND 조건).
+ * 점수는 Σ(필드 가중치 × 빈도) × ln(1 + 전체 문서 수 / 토큰 문서 수)이며,
+ * 점수 내림차순, 같은 점수는 ID 내림차순(최신순)으로 정렬합니다.
+ * </p>
+ *
+ * <p>
+ * 문서마다 범위 값(사용자 ID, 회사 ID 등)을 함께 저장하여 검색 시 범위로 제한할 수 있습니다.
+ * 조회는 읽기 잠금, 추가/삭제는 쓰기 잠금으로 보호되므로 여러 스레드에서 함께 사용할 수 있습니다.
+ * </p>
+ */
+public final class InvertedIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 토큰 → (문서 ID → 가중 빈도)
+    private final Map<String, Map<Long, Double>> postings = new HashMap<>();
+    // 문서 ID → 범위/토큰 (삭제 시 postings 정리용)
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    /**
+     * 문서를 추가하거나 교체합니다.
+     *
+     * @param id 문서 ID
+     * @param scope 검색 범위 값 (null 가능)
+     * @param fields 색인할 필드 목록 (필드별 가중치 포함)
+     */
+    public void put(long id, Long scope, List<Field> fields) {
+        Map<String, Double> terms = new HashMap<>();
+        for (Field field : fields) {
+            for (String token : NgramTokenizer.tokenize(field.text())) {
+                terms.merge(token, field.weight(), Double::sum);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            terms.forEach((token, weight) -> postings.computeIfAbsent(token, t -> new HashMap<>()).put(id, weight));
+            documents.put(id, new Document(scope, terms.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서를 삭제합니다.
+     *
+     * @param id 문서 ID
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 문서를 삭제합니다.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함한 문서를 점수 순으로 검색합니다.
+     *
+     * @param query 검색어
+     * @param scope 검색 범위 값 (null이면 전체)
+     * @param offset 건너뛸 결과 수
+     * @param limit 반환할 최대 결과 수
+     * @return 요청 구간의 결과와 전체 일치 건수
+     */
+    public Result search(String query, Long scope, long offset, int limit) {
+        Set<String> tokens = new LinkedHashSet<>(NgramTokenizer.tokenize(query));
+        if (tokens.isEmpty()) {
+            return new Result(List.of(), 0);
+        }
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Double>> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Map<Long, Double> list = postings.get(token);
+                if (list == null) {
+                    return new Result(List.of(), 0);
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 목록을 기준으로 나머지 목록에 모두 있는 문서만 남김
+            lists.sort(Comparator.comparingInt(Map::size));
+            int documentCount = documents.size();
+            for (Long id : lists.get(0).keySet()) {
+                if (scope != null && !Objects.equals(scope, documents.get(id).scope())) {
+                    continue;
+                }
+                double score = 0;
+                boolean matched = true;
+                for (Map<Long, Double> list : lists) {
+                    Double weight = list.get(id);
+                    if (weight == null) {
+                        matched = false;
+                        break;
+                    }
+                    score += weight * Math.log1p((double) documentCount / list.size());
+                }
+                if (matched) {
+                    hits.add(new Hit(id, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(Comparator.comparingLong(Hit::id).reversed()));
+        int from = (int) Math.min(offset, hits.size());
+        int to = (int) Math.min((long) from + limit, hits.size());
+        return new Result(List.copyOf(hits.subList(from, to)), hits.size());
+    }
+
+    private void removeInternal(long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens()) {
+            Map<Long, Double> list = postings.get(token);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인할 필드 (PostgreSQL setweight 의 A/B/C 가중치에 해당)
+     */
+    public record Field(String text, double weight) {
+    }
+
+    /**
+     * 검색 결과 항목
+     */
+    public record Hit(long id, double score) {
+    }
+
+    /**
+     * 검색 결과 (요청 구간의 항목과 전체 일치 건수)
+     */
+    public record Result(List<Hit> hits, long total) {
+    }
+
+    private record Document(Long scope, Set<String> tokens) {
+    }
+}
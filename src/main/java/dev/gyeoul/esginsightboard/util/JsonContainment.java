@@ -0,0 +1,97 @@
+package dev.gyeoul.esginsightboard.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * JSON 포함(containment) 판정 유틸리티
+ * <p>
+ * PostgreSQL jsonb의 {@code @>} 연산자와 같은 규칙으로 문서가 조건 JSON을 포함하는지 판정합니다.
+ * jsonb 연산자를 사용할 수 없는 DB(H2)에서 같은 검색 결과를 얻기 위해 사용합니다.
+ * </p>
+ *
+ * <ul>
+ *   <li>객체: 조건의 모든 키가 문서에 있고, 각 값이 문서 값에 포함되어야 합니다.</li>
+ *   <li>배열: 조건의 모든 요소가 문서 배열의 어떤 요소에 포함되어야 합니다. (순서/중복 무관)</li>
+ *   <li>스칼라: 값이 같아야 합니다. 숫자는 표기와 관계없이 값으로 비교합니다. (1 = 1.0)</li>
+ *   <li>최상위에 한해 배열 문서는 스칼라 조건을 요소로 가지고 있으면 포함합니다.</li>
+ * </ul>
+ */
+public final class JsonContainment {
+
+    private JsonContainment() {
+    }
+
+    /**
+     * 문서가 조건 JSON을 포함하는지 확인합니다.
+     *
+     * @param document 검사할 JSON 문서
+     * @param pattern 조건 JSON
+     * @return 포함 여부
+     */
+    public static boolean contains(JsonNode document, JsonNode pattern) {
+        if (document == null || pattern == null) {
+            return false;
+        }
+        if (document.isArray() && isScalar(pattern)) {
+            for (JsonNode element : document) {
+                if (scalarEquals(element, pattern)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return containsValue(document, pattern);
+    }
+
+    private static boolean containsValue(JsonNode document, JsonNode pattern) {
+        if (pattern.isObject()) {
+            if (!document.isObject()) {
+                return false;
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = pattern.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = document.get(field.getKey());
+                if (value == null || !containsValue(value, field.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (pattern.isArray()) {
+            if (!document.isArray()) {
+                return false;
+            }
+            for (JsonNode expected : pattern) {
+                if (!anyElementContains(document, expected)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return scalarEquals(document, pattern);
+    }
+
+    private static boolean anyElementContains(JsonNode array, JsonNode expected) {
+        for (JsonNode element : array) {
+            if (containsValue(element, expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isScalar(JsonNode node) {
+        return !node.isContainerNode();
+    }
+
+    private static boolean scalarEquals(JsonNode a, JsonNode b) {
+        if (a.isNumber() && b.isNumber()) {
+            return a.decimalValue().compareTo(b.decimalValue()) == 0;
+        }
+        return isScalar(a) && a.equals(b);
+    }
+}
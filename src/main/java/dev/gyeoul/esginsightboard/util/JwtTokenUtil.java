@@ -2,6 +2,8 @@ package dev.gyeoul.esginsightboard.util;
 
 import dev.gyeoul.esginsightboard.config.JwtConfig;
 import dev.gyeoul.esginsightboard.dto.UserDto;
+import dev.gyeoul.esginsightboard.security.JwtKeyRing;
+import dev.gyeoul.esginsightboard.security.JwtTokenVerifier;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Component;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Slf4j
@@ -19,20 +22,43 @@ import java.util.function.Function;
 @RequiredArgsConstructor
 public class JwtTokenUtil {
 
+    /**
+     * 토큰 버전 클레임 이름 (TokenVersionService 참고)
+     */
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     private final JwtConfig jwtConfig;
+    private final JwtTokenVerifier jwtTokenVerifier;
+    private final JwtKeyRing jwtKeyRing;
 
     /**
-     * 사용자 정보에서 토큰 생성
+     * 사용자 정보에서 토큰 생성 (토큰 버전 0)
      * 
      * @param userDto 사용자 정보
      * @return JWT 토큰
      */
     public String generateToken(UserDto userDto) {
+        return generateToken(userDto, 0);
+    }
+
+    /**
+     * 사용자 정보와 토큰 버전으로 토큰 생성
+     * <p>
+     * 클레임 기반 인증에서 사용자 정보를 복원할 수 있도록 id, name, email, companyName, companyId를 포함합니다.
+     * </p>
+     * 
+     * @param userDto 사용자 정보
+     * @param tokenVersion 사용자의 현재 토큰 버전
+     * @return JWT 토큰
+     */
+    public String generateToken(UserDto userDto, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("id", userDto.getId());
         claims.put("name", userDto.getName());
         claims.put("email", userDto.getEmail());
         claims.put("companyName", userDto.getCompanyName());
+        claims.put("companyId", userDto.getCompanyId());
+        claims.put(CLAIM_TOKEN_VERSION, tokenVersion);
         
         return createToken(claims, userDto.getEmail());
     }
@@ -64,13 +90,16 @@ public class JwtTokenUtil {
     private String createToken(Map<String, Object> claims, String subject) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtConfig.getExpiration());
+        String kid = jwtKeyRing.getActiveKid();
 
         return Jwts.builder()
+                .setHeaderParam("kid", kid)             // 검증 시 키 링에서 서명 키를 찾는 데 사용
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())    // jti - 토큰 폐기(로그아웃) 시 식별자로 사용
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(jwtConfig.secretKey(), SignatureAlgorithm.HS512)
+                .signWith(jwtKeyRing.resolve(kid), SignatureAlgorithm.HS512)
                 .compact();
     }
 
@@ -97,17 +126,44 @@ public class JwtTokenUtil {
     }
 
     /**
-     * 토큰에서 모든 클레임 추출
+     * 검증된 클레임으로 사용자 정보 생성
+     * <p>
+     * 토큰에 포함된 id, email, name, companyName, companyId만 채워지며,
+     * 부서/직급 등 나머지 프로필 정보는 포함되지 않습니다.
+     * </p>
+     * 
+     * @param claims 서명 검증이 끝난 클레임
+     * @return 사용자 정보
+     */
+    public UserDto getUserFromClaims(Claims claims) {
+        return UserDto.builder()
+                .id(claims.get("id", Long.class))
+                .email(claims.getSubject())
+                .name(claims.get("name", String.class))
+                .companyName(claims.get("companyName", String.class))
+                .companyId(claims.get("companyId", Long.class))
+                .build();
+    }
+
+    /**
+     * 토큰 버전 추출 (버전 클레임이 없는 이전 토큰은 0)
+     * 
+     * @param claims 서명 검증이 끝난 클레임
+     * @return 토큰 버전
+     */
+    public int getTokenVersion(Claims claims) {
+        Integer version = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        return version != null ? version : 0;
+    }
+
+    /**
+     * 토큰에서 모든 클레임 추출 (서명 및 만료 검증 포함)
      * 
      * @param token 토큰
      * @return 모든 클레임
      */
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwtConfig.secretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public Claims getAllClaimsFromToken(String token) {
+        return jwtTokenVerifier.verify(token);
     }
 
     /**
@@ -118,10 +174,7 @@ public class JwtTokenUtil {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(jwtConfig.secretKey())
-                .build()
-                .parseClaimsJws(token);
+            jwtTokenVerifier.verify(token);
             return true;
         } catch (Exception e) {
             log.error("토큰 검증 실패: {}", e.getMessage());
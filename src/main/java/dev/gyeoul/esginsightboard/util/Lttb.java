@@ -0,0 +1,85 @@
+package dev.gyeoul.esginsightboard.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LTTB(Largest-Triangle-Three-Buckets) 다운샘플링
+ * <p>
+ * 첫/마지막 점을 유지하고 나머지 점을 (목표 개수 - 2)개의 구간으로 나눈 뒤,
+ * 구간마다 "직전에 선택한 점"과 "다음 구간의 평균점"이 이루는 삼각형의 넓이가 가장 큰 점 하나를 선택합니다.
+ * 봉우리/골짜기처럼 모양을 결정하는 점이 남으므로, 단순 간격 추출보다 원래 선 모양이 잘 보존됩니다.
+ * x는 점의 순서(인덱스)를 사용하므로 간격이 일정한 시계열(일별 계측값 등)에 적합합니다.
+ * </p>
+ *
+ * <p>
+ * 참고: Sveinn Steinarsson, "Downsampling Time Series for Visual Representation" (2013)
+ * </p>
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * 점 목록을 목표 개수로 줄입니다.
+     *
+     * @param points 원본 점 목록 (순서대로)
+     * @param values 각 점의 y 값 (points와 같은 순서, NaN 불가)
+     * @param threshold 목표 점 개수 (3 미만이거나 원본 개수 이상이면 원본을 그대로 반환)
+     * @return 선택된 점 목록 (원래 순서 유지)
+     */
+    public static <T> List<T> downsample(List<T> points, double[] values, int threshold) {
+        int size = points.size();
+        if (values.length != size) {
+            throw new IllegalArgumentException("점 개수와 값 개수가 다릅니다.");
+        }
+        if (threshold < 3 || threshold >= size) {
+            return points;
+        }
+
+        List<T> sampled = new ArrayList<>(threshold);
+        sampled.add(points.get(0));
+
+        // 첫/마지막 점을 제외한 점을 (threshold - 2)개 구간으로 나눔
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int selected = 0;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // 다음 구간의 평균점 (마지막 구간이면 마지막 점)
+            int nextStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                avgX += i;
+                avgY += values[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            // 현재 구간에서 삼각형 넓이가 가장 큰 점 선택
+            int rangeStart = (int) Math.floor(bucket * bucketSize) + 1;
+            int rangeEnd = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            double selectedX = selected;
+            double selectedY = values[selected];
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int i = rangeStart; i < rangeEnd; i++) {
+                // 넓이의 2배 (비교만 하므로 0.5는 생략)
+                double area = Math.abs((selectedX - avgX) * (values[i] - selectedY)
+                        - (selectedX - i) * (avgY - selectedY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = i;
+                }
+            }
+            sampled.add(points.get(next));
+            selected = next;
+        }
+
+        sampled.add(points.get(size - 1));
+        return sampled;
+    }
+}
@@ -0,0 +1,51 @@
+package dev.gyeoul.esginsightboard.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 전문 검색용 2글자(bigram) 토크나이저
+ * <p>
+ * 소문자로 바꾼 뒤 공백/ASCII 문장부호로 단어를 나누고, 각 단어를 연속된 2글자 조각으로 자릅니다.
+ * 한 글자 단어는 그대로 하나의 토큰이 됩니다. 예: "온실가스 배출" → [온실, 실가, 가스, 배출]
+ * </p>
+ *
+ * <p>
+ * 한국어는 조사/복합 명사 때문에 공백 단위로 색인하면 부분 검색이 되지 않으므로 n-gram으로 색인합니다.
+ * PostgreSQL 함수 esg_ngram_text(V11 마이그레이션)와 같은 규칙이므로, 변경 시 두 곳을 함께 수정해야 합니다.
+ * </p>
+ */
+public final class NgramTokenizer {
+
+    // esg_ngram_text 의 '[\s!-/:-@\[-`{-~]+' 와 동일
+    private static final Pattern SEPARATOR = Pattern.compile("[\\s!-/:-@\\[-`{-~]+");
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 토큰 목록으로 변환합니다. 같은 토큰이 여러 번 나오면 그만큼 포함됩니다.
+     *
+     * @param text 원문 (null이면 빈 목록)
+     * @return 토큰 목록
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        for (String word : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            int[] codePoints = word.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(word);
+            } else {
+                for (int i = 0; i + 1 < codePoints.length; i++) {
+                    tokens.add(new String(codePoints, i, 2));
+                }
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,13 @@
+-- =============================================================
+-- V10: 사용자/회사 범위 차트 조회용 복합 인덱스
+-- 차트 목록/검색은 항상 소유자(user_id)로 범위를 좁힌 뒤 조건을 적용하므로,
+-- user_id 를 선두 컬럼으로 두어 전체 차트 수와 관계없이 해당 사용자의 행만 탐색합니다.
+-- 회사 범위 조회는 idx_users_company(V8)로 사용자를 찾은 뒤 같은 인덱스를 사용합니다.
+-- (user_id, id) 는 기본 정렬(최신순)과 설명 키워드 검색(LIKE '%...%')의 사용자 범위 탐색에 사용합니다.
+-- =============================================================
+
+CREATE INDEX IF NOT EXISTS idx_chart_data_user_id ON chart_data (user_id, id);
+CREATE INDEX IF NOT EXISTS idx_chart_data_user_category ON chart_data (user_id, category);
+CREATE INDEX IF NOT EXISTS idx_chart_data_user_indicator ON chart_data (user_id, indicator);
+CREATE INDEX IF NOT EXISTS idx_chart_data_user_grid ON chart_data (user_id, chart_grid);
+CREATE INDEX IF NOT EXISTS idx_chart_data_user_title ON chart_data (user_id, title);
@@ -0,0 +1,99 @@
+-- =============================================================
+-- V1: 기준 스키마
+-- 기존 ddl-auto: update 로 생성되던 테이블을 그대로 옮긴 스크립트입니다.
+-- 이미 테이블이 있는 DB는 baseline-on-migrate 설정에 의해 이 버전을 건너뜁니다.
+-- H2, PostgreSQL 양쪽에서 실행 가능한 표준 SQL만 사용합니다.
+-- =============================================================
+
+CREATE TABLE companies (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name              VARCHAR(255)  NOT NULL,
+    business_number   VARCHAR(255)  UNIQUE,
+    industry          VARCHAR(255),
+    sector            VARCHAR(255),
+    description       VARCHAR(1000),
+    website           VARCHAR(255),
+    employee_count    INTEGER,
+    annual_revenue    BIGINT,
+    created_at        TIMESTAMP(6)  NOT NULL,
+    updated_at        TIMESTAMP(6)  NOT NULL
+);
+
+CREATE TABLE users (
+    id                       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email                    VARCHAR(255) NOT NULL UNIQUE,
+    password                 VARCHAR(255) NOT NULL,
+    name                     VARCHAR(255) NOT NULL,
+    department               VARCHAR(255),
+    position                 VARCHAR(255),
+    company_name             VARCHAR(255),
+    ceo_name                 VARCHAR(255),
+    company_code             VARCHAR(255),
+    company_phone_number     VARCHAR(255),
+    phone_number             VARCHAR(255),
+    company_id               BIGINT REFERENCES companies (id),
+    created_at               TIMESTAMP(6) NOT NULL,
+    updated_at               TIMESTAMP(6) NOT NULL,
+    account_non_expired      BOOLEAN DEFAULT TRUE,
+    account_non_locked       BOOLEAN DEFAULT TRUE,
+    credentials_non_expired  BOOLEAN DEFAULT TRUE,
+    enabled                  BOOLEAN DEFAULT TRUE
+);
+
+CREATE TABLE esg_category (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    category  VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE esg_indicator (
+    indicator_code   VARCHAR(255)  PRIMARY KEY,
+    indicator_title  VARCHAR(255)  NOT NULL,
+    description      VARCHAR(2000),
+    category_id      BIGINT        NOT NULL REFERENCES esg_category (id)
+);
+
+CREATE TABLE esg_input_value (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    indicator_id            VARCHAR(255)  NOT NULL REFERENCES esg_indicator (indicator_code),
+    user_id                 BIGINT        NOT NULL REFERENCES users (id),
+    numeric_value           DOUBLE PRECISION,
+    text_value              VARCHAR(1000),
+    unit                    VARCHAR(255),
+    reporting_period_start  DATE,
+    reporting_period_end    DATE,
+    created_at              TIMESTAMP(6),
+    up_date_at              TIMESTAMP(6)
+);
+
+CREATE TABLE chart_data (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT        NOT NULL REFERENCES users (id),
+    title        VARCHAR(100)  NOT NULL,
+    description  VARCHAR(500)  NOT NULL,
+    category     VARCHAR(1)    NOT NULL,
+    indicator    VARCHAR(100)  NOT NULL,
+    chart_type   VARCHAR(20)   NOT NULL,
+    chart_grid   INTEGER       NOT NULL,
+    data         TEXT          NOT NULL,
+    created_at   TIMESTAMP(6)  NOT NULL,
+    updated_at   TIMESTAMP(6)  NOT NULL
+);
+
+CREATE TABLE gri_data_items (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    standard_code           VARCHAR(255)  NOT NULL,
+    disclosure_code         VARCHAR(255)  NOT NULL,
+    disclosure_title        VARCHAR(255)  NOT NULL,
+    disclosure_value        VARCHAR(1000),
+    description             VARCHAR(2000),
+    numeric_value           DOUBLE PRECISION,
+    unit                    VARCHAR(255),
+    reporting_period_start  DATE,
+    reporting_period_end    DATE,
+    verification_status     VARCHAR(255),
+    verification_provider   VARCHAR(255),
+    category                VARCHAR(255)  NOT NULL,
+    company_id              BIGINT REFERENCES companies (id),
+    created_at              TIMESTAMP(6)  NOT NULL,
+    updated_at              TIMESTAMP(6)  NOT NULL
+);
@@ -0,0 +1,50 @@
+-- =============================================================
+-- V2: gri_data_items 접근 패턴별 B-tree 인덱스
+-- GriDataItemRepository 의 조회 메서드와 1:1로 대응합니다.
+-- (기존 DB에 ddl-auto 로 같은 이름의 인덱스가 이미 있을 수 있으므로 IF NOT EXISTS 사용)
+-- =============================================================
+
+-- 보고 기간 시작일이 종료일보다 늦은 데이터는 기간 겹침 조건과 daterange 인덱스를 깨뜨리므로 CHECK 제약으로 막습니다.
+-- 기존 데이터 중 순서가 뒤바뀐 행은 두 날짜 중 어느 쪽이 잘못됐는지 알 수 없으므로 임의로 고치지 않고
+-- gri_data_items_period_review 테이블로 옮깁니다. (원래 id 그대로 보관, 확인 후 수정하여 다시 넣거나 삭제)
+CREATE TABLE gri_data_items_period_review AS
+SELECT g.*, CURRENT_TIMESTAMP AS moved_at
+  FROM gri_data_items g
+ WHERE g.reporting_period_start > g.reporting_period_end;
+
+DELETE FROM gri_data_items
+ WHERE reporting_period_start > reporting_period_end;
+
+ALTER TABLE gri_data_items
+    ADD CONSTRAINT chk_gri_period_order
+        CHECK (reporting_period_start IS NULL
+            OR reporting_period_end IS NULL
+            OR reporting_period_start <= reporting_period_end);
+
+-- findByCategory, /search 카테고리 + 기간 조건
+CREATE INDEX IF NOT EXISTS idx_gri_category_period
+    ON gri_data_items (category, reporting_period_start);
+
+-- findByStandardCode, findByStandardCodeAndDisclosureCode
+CREATE INDEX IF NOT EXISTS idx_gri_standard_disclosure
+    ON gri_data_items (standard_code, disclosure_code);
+
+-- findByDisclosureCode
+CREATE INDEX IF NOT EXISTS idx_gri_disclosure
+    ON gri_data_items (disclosure_code);
+
+-- findByVerificationStatus, /search 검증 상태 + 카테고리 조건
+CREATE INDEX IF NOT EXISTS idx_gri_verification_category
+    ON gri_data_items (verification_status, category);
+
+-- findItemsByReportingPeriod (reporting_period_start <= :endDate 범위 탐색)
+CREATE INDEX IF NOT EXISTS idx_gri_period
+    ON gri_data_items (reporting_period_start, reporting_period_end);
+
+-- /search 회사 + 카테고리 + 기간 조건
+CREATE INDEX IF NOT EXISTS idx_gri_company_category_period
+    ON gri_data_items (company_id, category, reporting_period_start);
+
+-- findRecentItems (ORDER BY created_at DESC)
+CREATE INDEX IF NOT EXISTS idx_gri_created_at
+    ON gri_data_items (created_at);
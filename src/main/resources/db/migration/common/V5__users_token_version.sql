@@ -0,0 +1,7 @@
+-- =============================================================
+-- V5: 사용자별 토큰 버전
+-- JWT 의 "ver" 클레임과 비교하여, 버전이 올라가면 이전에 발급된 토큰을 모두 무효화합니다.
+-- (클레임 기반 인증에서 요청마다 users 테이블을 조회하지 않기 위해 사용)
+-- =============================================================
+
+ALTER TABLE users ADD COLUMN token_version INTEGER DEFAULT 0 NOT NULL;
@@ -0,0 +1,15 @@
+-- =============================================================
+-- V6: 폐기된 JWT 목록
+-- 로그아웃 등으로 폐기된 토큰의 jti 를 저장합니다.
+-- 각 서버는 이 테이블을 주기적으로 읽어 메모리(블룸 필터 + 정확한 집합)에 보관하며,
+-- 토큰의 만료 시각(expires_at)이 지난 행은 주기적으로 삭제됩니다.
+-- =============================================================
+
+CREATE TABLE revoked_tokens (
+    jti         VARCHAR(64)   PRIMARY KEY,
+    user_id     BIGINT,
+    expires_at  TIMESTAMP(6)  NOT NULL,
+    revoked_at  TIMESTAMP(6)  NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
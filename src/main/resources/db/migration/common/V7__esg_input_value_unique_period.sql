@@ -0,0 +1,16 @@
+-- =============================================================
+-- V7: esg_input_value 지표/사용자/보고 기간별 단일 행
+-- 차트를 다시 저장하면 같은 기간의 행이 계속 추가되던 문제를 막기 위해
+-- 기존 중복 행 중 가장 최근(id가 가장 큰) 행만 남기고 유니크 제약을 추가합니다.
+-- 이후 저장은 EsgInputValueRepository.upsertAll(ON CONFLICT / MERGE)로 처리됩니다.
+-- =============================================================
+
+DELETE FROM esg_input_value
+ WHERE id NOT IN (SELECT MAX(id)
+                    FROM esg_input_value
+                   GROUP BY indicator_id, user_id, reporting_period_start, reporting_period_end);
+
+-- 유니크 제약의 인덱스가 (지표, 사용자) 기준 기간별 조회에도 사용됩니다.
+ALTER TABLE esg_input_value
+    ADD CONSTRAINT uk_esg_input_value_period
+        UNIQUE (indicator_id, user_id, reporting_period_start, reporting_period_end);
@@ -0,0 +1,7 @@
+-- =============================================================
+-- V8: 회사 단위 ESG 입력값 시계열 집계용 인덱스
+-- EsgInputValueRepository.aggregateTimeSeries 의 회사 범위 조회는 users 를 company_id 로 거릅니다.
+-- (사용자 범위 조회는 V7 의 uk_esg_input_value_period 인덱스를 사용)
+-- =============================================================
+
+CREATE INDEX IF NOT EXISTS idx_users_company ON users (company_id);
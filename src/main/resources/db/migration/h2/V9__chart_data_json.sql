@@ -0,0 +1,16 @@
+-- =============================================================
+-- V9 (H2 전용): chart_data.data 를 TEXT 에서 JSON 타입으로 변경
+-- H2 는 문자열을 JSON 으로 CAST 하면 JSON 문자열 값이 되므로,
+-- 새 컬럼에 FORMAT JSON 으로 옮긴 뒤 이름을 바꿉니다.
+-- 포함 검색은 H2 에 jsonb 연산자가 없으므로 애플리케이션에서 처리합니다.
+-- =============================================================
+
+ALTER TABLE chart_data ADD COLUMN data_json JSON;
+
+UPDATE chart_data SET data_json = data FORMAT JSON;
+
+ALTER TABLE chart_data DROP COLUMN data;
+
+ALTER TABLE chart_data ALTER COLUMN data_json RENAME TO data;
+
+ALTER TABLE chart_data ALTER COLUMN data SET NOT NULL;
@@ -0,0 +1,95 @@
+-- =============================================================
+-- V11 (PostgreSQL 전용): 차트 제목/설명, GRI 공시 제목/설명/값 전문 검색
+-- 기본 텍스트 검색 사전은 한국어 형태소를 나누지 못하므로, 단어를 2글자 단위(bigram)로
+-- 잘라 'simple' 사전으로 색인합니다. 검색어도 같은 방식으로 잘라 모든 조각이 포함된 행을 찾으므로
+-- "온실가스배출량"처럼 붙여 쓴 복합 명사 안의 "가스배출"도 검색됩니다.
+-- 같은 규칙이 NgramTokenizer(H2 메모리 색인)에도 구현되어 있으므로 함께 변경해야 합니다.
+--
+-- gri_data_items 는 연도 파티션 테이블이고 파티션 생성 함수(V4)가 SELECT * 로 행을 옮기므로
+-- 생성 컬럼(GENERATED) 대신 트리거로 search_vector 를 채웁니다. (ATTACH 시 트리거도 복제됨)
+-- =============================================================
+
+-- 소문자 변환 후 공백/ASCII 문장부호로 단어를 나누고, 각 단어를 2글자 조각으로 변환
+-- 한 글자 단어는 그대로 둡니다. 예: '온실가스 배출' → '온실 실가 가스 배출'
+CREATE OR REPLACE FUNCTION esg_ngram_text(p_text TEXT)
+RETURNS TEXT
+LANGUAGE plpgsql
+IMMUTABLE STRICT PARALLEL SAFE
+AS $$
+DECLARE
+    v_word   TEXT;
+    v_len    INTEGER;
+    v_tokens TEXT[] := '{}';
+BEGIN
+    FOREACH v_word IN ARRAY regexp_split_to_array(lower(p_text), '[\s!-/:-@\[-`{-~]+') LOOP
+        v_len := char_length(v_word);
+        IF v_len = 1 THEN
+            v_tokens := v_tokens || v_word;
+        ELSIF v_len > 1 THEN
+            FOR i IN 1 .. v_len - 1 LOOP
+                v_tokens := v_tokens || substr(v_word, i, 2);
+            END LOOP;
+        END IF;
+    END LOOP;
+    RETURN array_to_string(v_tokens, ' ');
+END;
+$$;
+
+-- -------------------------------------------------------------
+-- chart_data: 제목(A), 설명(B)
+-- -------------------------------------------------------------
+ALTER TABLE chart_data ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION chart_data_search_vector_update()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('simple', esg_ngram_text(coalesce(NEW.title, ''))), 'A')
+        || setweight(to_tsvector('simple', esg_ngram_text(coalesce(NEW.description, ''))), 'B');
+    RETURN NEW;
+END;
+$$;
+
+UPDATE chart_data
+   SET search_vector = setweight(to_tsvector('simple', esg_ngram_text(coalesce(title, ''))), 'A')
+                       || setweight(to_tsvector('simple', esg_ngram_text(coalesce(description, ''))), 'B');
+
+CREATE TRIGGER trg_chart_data_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON chart_data
+    FOR EACH ROW EXECUTE FUNCTION chart_data_search_vector_update();
+
+CREATE INDEX IF NOT EXISTS idx_chart_data_search_vector
+    ON chart_data USING gin (search_vector);
+
+-- -------------------------------------------------------------
+-- gri_data_items: 공시 제목(A), 설명(B), 공시 값(C)
+-- 분할 테이블에 추가한 컬럼/트리거/인덱스는 모든 파티션(이후 생성분 포함)에 적용됩니다.
+-- -------------------------------------------------------------
+ALTER TABLE gri_data_items ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION gri_data_items_search_vector_update()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_vector :=
+        setweight(to_tsvector('simple', esg_ngram_text(coalesce(NEW.disclosure_title, ''))), 'A')
+        || setweight(to_tsvector('simple', esg_ngram_text(coalesce(NEW.description, ''))), 'B')
+        || setweight(to_tsvector('simple', esg_ngram_text(coalesce(NEW.disclosure_value, ''))), 'C');
+    RETURN NEW;
+END;
+$$;
+
+UPDATE gri_data_items
+   SET search_vector = setweight(to_tsvector('simple', esg_ngram_text(coalesce(disclosure_title, ''))), 'A')
+                       || setweight(to_tsvector('simple', esg_ngram_text(coalesce(description, ''))), 'B')
+                       || setweight(to_tsvector('simple', esg_ngram_text(coalesce(disclosure_value, ''))), 'C');
+
+CREATE TRIGGER trg_gri_data_items_search_vector
+    BEFORE INSERT OR UPDATE OF disclosure_title, description, disclosure_value ON gri_data_items
+    FOR EACH ROW EXECUTE FUNCTION gri_data_items_search_vector_update();
+
+CREATE INDEX IF NOT EXISTS idx_gri_search_vector
+    ON gri_data_items USING gin (search_vector);
@@ -0,0 +1,10 @@
+-- =============================================================
+-- V3 (PostgreSQL 전용): 보고 기간 겹침 조회용 GiST daterange 인덱스
+-- B-tree 는 두 컬럼 중 한쪽 경계만 좁힐 수 있지만, daterange && 연산은
+-- 양쪽 경계를 모두 사용해 겹치는 기간만 탐색합니다.
+-- GriDataItemRepository.findItemsOverlappingPeriod 네이티브 쿼리가 이 인덱스를 사용합니다.
+-- NULL 경계는 무한대로 취급됩니다.
+-- =============================================================
+
+CREATE INDEX IF NOT EXISTS idx_gri_period_range
+    ON gri_data_items USING gist (daterange(reporting_period_start, reporting_period_end, '[]'));
@@ -0,0 +1,151 @@
+-- =============================================================
+-- V4 (PostgreSQL 전용): gri_data_items 를 보고 시작 연도별 범위 파티션으로 전환
+--
+-- - 파티션 키: reporting_period_start
+-- - 파티션 이름: gri_data_items_y{연도} (예: gri_data_items_y2024)
+-- - 보고 시작일이 없는 데이터와 아직 파티션이 없는 연도의 데이터는 gri_data_items_default 에 저장됩니다.
+-- - 새 연도 파티션은 ensure_gri_data_items_partition(연도) 로 생성하며,
+--   CSV 업로드 시 GriDataItemPartitionService 가 자동으로 호출합니다.
+-- - 오래된 연도는 detach_gri_data_items_partition(연도) 로 분리해 보관(아카이브)할 수 있습니다.
+--   모든 회사의 데이터에 영향을 주므로 API 로 제공하지 않으며, 운영자가 DB 에서 직접 실행합니다.
+--   예) SELECT detach_gri_data_items_partition(2019);  -- 분리된 테이블 이름(gri_data_items_y2019) 반환
+--
+-- 파티션 테이블의 기본 키는 파티션 키를 포함해야 하는데 reporting_period_start 는 NULL 을 허용하므로,
+-- 기본 키는 각 파티션에 id 단독으로 생성합니다. id 는 공용 시퀀스에서 발급되므로 전체에서 유일합니다.
+-- (PostgreSQL 16 이하는 파티션 테이블에 IDENTITY 컬럼을 지원하지 않아 시퀀스 기본값을 사용합니다.)
+-- =============================================================
+
+ALTER TABLE gri_data_items RENAME TO gri_data_items_unpartitioned;
+
+CREATE SEQUENCE gri_data_items_pk_seq;
+
+CREATE TABLE gri_data_items (
+    id                      BIGINT        NOT NULL DEFAULT nextval('gri_data_items_pk_seq'),
+    standard_code           VARCHAR(255)  NOT NULL,
+    disclosure_code         VARCHAR(255)  NOT NULL,
+    disclosure_title        VARCHAR(255)  NOT NULL,
+    disclosure_value        VARCHAR(1000),
+    description             VARCHAR(2000),
+    numeric_value           DOUBLE PRECISION,
+    unit                    VARCHAR(255),
+    reporting_period_start  DATE,
+    reporting_period_end    DATE,
+    verification_status     VARCHAR(255),
+    verification_provider   VARCHAR(255),
+    category                VARCHAR(255)  NOT NULL,
+    company_id              BIGINT REFERENCES companies (id),
+    created_at              TIMESTAMP(6)  NOT NULL,
+    updated_at              TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT chk_gri_period_order
+        CHECK (reporting_period_start IS NULL
+            OR reporting_period_end IS NULL
+            OR reporting_period_start <= reporting_period_end)
+) PARTITION BY RANGE (reporting_period_start);
+
+ALTER SEQUENCE gri_data_items_pk_seq OWNED BY gri_data_items.id;
+
+CREATE TABLE gri_data_items_default PARTITION OF gri_data_items DEFAULT;
+ALTER TABLE gri_data_items_default ADD PRIMARY KEY (id);
+
+-- -------------------------------------------------------------
+-- 연도 파티션 생성
+-- 이미 연결되어 있으면 false, 새로 만들면 true 를 반환합니다.
+-- 기본 파티션에 해당 연도 데이터가 있으면 새 파티션으로 옮긴 뒤 연결(ATTACH)합니다.
+-- 같은 이름의 테이블이 있지만 연결되어 있지 않으면(분리된 아카이브) 오류를 발생시킵니다.
+-- (그대로 두면 해당 연도 데이터가 기본 파티션에 쌓이므로, 아카이브를 보관/삭제하거나 다시 연결한 뒤 진행해야 합니다)
+-- -------------------------------------------------------------
+CREATE OR REPLACE FUNCTION ensure_gri_data_items_partition(p_year INTEGER)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_name TEXT := format('gri_data_items_y%s', p_year);
+    v_from DATE := make_date(p_year, 1, 1);
+    v_to   DATE := make_date(p_year + 1, 1, 1);
+BEGIN
+    -- 여러 세션이 같은 연도를 동시에 만들지 않도록 트랜잭션 단위 잠금
+    PERFORM pg_advisory_xact_lock(hashtext('gri_data_items_partition'));
+
+    IF to_regclass(v_name) IS NOT NULL THEN
+        IF EXISTS (SELECT 1
+                     FROM pg_inherits i
+                     JOIN pg_class c ON c.oid = i.inhrelid
+                    WHERE i.inhparent = 'gri_data_items'::regclass
+                      AND c.relname = v_name) THEN
+            RETURN FALSE;
+        END IF;
+        RAISE EXCEPTION '% 테이블이 파티션으로 연결되어 있지 않습니다 (분리된 아카이브). 보관 후 삭제하거나 ATTACH PARTITION 으로 다시 연결하세요.', v_name
+            USING ERRCODE = 'object_in_use';
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE gri_data_items INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+    EXECUTE format('ALTER TABLE %I ADD PRIMARY KEY (id)', v_name);
+    -- ATTACH 시 전체 검사를 건너뛰기 위한 범위 제약 (연결 후 제거)
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (reporting_period_start IS NOT NULL AND reporting_period_start >= %L AND reporting_period_start < %L)',
+                   v_name, v_name || '_range', v_from, v_to);
+
+    EXECUTE format('WITH moved AS (DELETE FROM gri_data_items_default WHERE reporting_period_start >= %L AND reporting_period_start < %L RETURNING *) '
+                   || 'INSERT INTO %I SELECT * FROM moved', v_from, v_to, v_name);
+
+    EXECUTE format('ALTER TABLE gri_data_items ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', v_name, v_from, v_to);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', v_name, v_name || '_range');
+
+    RETURN TRUE;
+END;
+$$;
+
+-- -------------------------------------------------------------
+-- 연도 파티션 분리 (아카이브용)
+-- 분리된 테이블은 gri_data_items_y{연도} 이름 그대로 남으며, 더 이상 조회 대상이 아닙니다.
+-- 보관(pg_dump 등) 후 DROP TABLE 하거나, 다시 ATTACH PARTITION 으로 되돌릴 수 있습니다.
+-- 분리된 테이블이 남아 있는 동안 해당 연도 파티션 생성(ensure_gri_data_items_partition)은 실패합니다.
+-- 분리한 테이블 이름을 반환하며, 해당 연도 파티션이 없으면 NULL 을 반환합니다.
+-- -------------------------------------------------------------
+CREATE OR REPLACE FUNCTION detach_gri_data_items_partition(p_year INTEGER)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_name TEXT := format('gri_data_items_y%s', p_year);
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('gri_data_items_partition'));
+
+    IF NOT EXISTS (SELECT 1
+                     FROM pg_inherits i
+                     JOIN pg_class c ON c.oid = i.inhrelid
+                    WHERE i.inhparent = 'gri_data_items'::regclass
+                      AND c.relname = v_name) THEN
+        RETURN NULL;
+    END IF;
+
+    EXECUTE format('ALTER TABLE gri_data_items DETACH PARTITION %I', v_name);
+    RETURN v_name;
+END;
+$$;
+
+-- 기존 데이터의 연도별 파티션 생성 후 이관
+SELECT ensure_gri_data_items_partition(y.year)
+  FROM (SELECT DISTINCT extract(YEAR FROM reporting_period_start)::INTEGER AS year
+          FROM gri_data_items_unpartitioned
+         WHERE reporting_period_start IS NOT NULL) y;
+
+INSERT INTO gri_data_items
+SELECT id, standard_code, disclosure_code, disclosure_title, disclosure_value, description,
+       numeric_value, unit, reporting_period_start, reporting_period_end, verification_status,
+       verification_provider, category, company_id, created_at, updated_at
+  FROM gri_data_items_unpartitioned;
+
+SELECT setval('gri_data_items_pk_seq', COALESCE((SELECT max(id) FROM gri_data_items), 0) + 1, false);
+
+DROP TABLE gri_data_items_unpartitioned;
+
+-- V2, V3 인덱스를 파티션 인덱스로 재생성 (이후 생성되는 파티션에도 자동으로 만들어집니다)
+CREATE INDEX idx_gri_category_period ON gri_data_items (category, reporting_period_start);
+CREATE INDEX idx_gri_standard_disclosure ON gri_data_items (standard_code, disclosure_code);
+CREATE INDEX idx_gri_disclosure ON gri_data_items (disclosure_code);
+CREATE INDEX idx_gri_verification_category ON gri_data_items (verification_status, category);
+CREATE INDEX idx_gri_period ON gri_data_items (reporting_period_start, reporting_period_end);
+CREATE INDEX idx_gri_company_category_period ON gri_data_items (company_id, category, reporting_period_start);
+CREATE INDEX idx_gri_created_at ON gri_data_items (created_at);
+CREATE INDEX idx_gri_period_range
+    ON gri_data_items USING gist (daterange(reporting_period_start, reporting_period_end, '[]'));
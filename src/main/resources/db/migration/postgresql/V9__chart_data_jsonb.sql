@@ -0,0 +1,47 @@
+-- =============================================================
+-- V9 (PostgreSQL 전용): chart_data.data 를 TEXT 에서 jsonb 로 변경
+-- 조회할 때마다 문자열을 다시 파싱하지 않고, 서버에서 포함(@>) 검색과
+-- 시리즈 단위 부분 수정(jsonb_set)을 할 수 있도록 합니다.
+-- 이전 수정 API가 저장한 JSON 이 아닌 값(List.toString() 결과)은
+-- 읽을 때 이미 null 로 처리되던 값이므로 빈 배열로 변환하되,
+-- 원래 값은 chart_data_invalid_json_backup 테이블에 보관하고 건수를 WARNING 으로 남깁니다.
+-- =============================================================
+
+CREATE TABLE chart_data_invalid_json_backup (
+    chart_id     BIGINT       PRIMARY KEY,
+    data         TEXT         NOT NULL,
+    backed_up_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE FUNCTION pg_temp.is_valid_json(value TEXT) RETURNS BOOLEAN AS $$
+BEGIN
+    PERFORM value::jsonb;
+    RETURN TRUE;
+EXCEPTION WHEN others THEN
+    RETURN FALSE;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+INSERT INTO chart_data_invalid_json_backup (chart_id, data)
+SELECT id, data
+  FROM chart_data
+ WHERE NOT pg_temp.is_valid_json(data);
+
+DO $$
+DECLARE
+    v_count BIGINT;
+BEGIN
+    SELECT count(*) INTO v_count FROM chart_data_invalid_json_backup;
+    IF v_count > 0 THEN
+        RAISE WARNING 'chart_data.data 가 JSON 이 아닌 차트 %건을 빈 배열로 변환했습니다. 원래 값은 chart_data_invalid_json_backup 테이블에 있습니다.', v_count;
+    END IF;
+END;
+$$;
+
+ALTER TABLE chart_data
+    ALTER COLUMN data TYPE jsonb
+    USING CASE WHEN pg_temp.is_valid_json(data) THEN data::jsonb ELSE '[]'::jsonb END;
+
+-- 포함 검색(data @> ?) 전용 GIN 인덱스 (jsonb_path_ops: @> 만 지원하는 대신 더 작고 빠름)
+CREATE INDEX IF NOT EXISTS idx_chart_data_data
+    ON chart_data USING gin (data jsonb_path_ops);
@@ -0,0 +1,41 @@
+package dev.gyeoul.esginsightboard.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.dto.ChartDataDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChartColumnarHttpMessageConverterTest {
+
+    private final ChartColumnarHttpMessageConverter converter = new ChartColumnarHttpMessageConverter(new ObjectMapper());
+
+    @Test
+    void writesChartsAndChartLists() {
+        assertThat(converter.canWrite(ChartDataDto.class, ChartDataDto.class,
+                ChartColumnarHttpMessageConverter.CHART_COLUMNAR)).isTrue();
+        assertThat(converter.canWrite(new ParameterizedTypeReference<List<ChartDataDto>>() { }.getType(),
+                List.class, ChartColumnarHttpMessageConverter.CHART_COLUMNAR)).isTrue();
+    }
+
+    @Test
+    void doesNotWriteOtherCollections() {
+        assertThat(converter.canWrite(new ParameterizedTypeReference<List<String>>() { }.getType(),
+                List.class, ChartColumnarHttpMessageConverter.CHART_COLUMNAR)).isFalse();
+        assertThat(converter.canWrite(new ParameterizedTypeReference<List<Map<String, Object>>>() { }.getType(),
+                List.class, ChartColumnarHttpMessageConverter.CHART_COLUMNAR)).isFalse();
+        // 요소 타입을 알 수 없는 경로
+        assertThat(converter.canWrite(ArrayList.class, ChartColumnarHttpMessageConverter.CHART_COLUMNAR)).isFalse();
+        assertThat(converter.canWrite(null, ArrayList.class, ChartColumnarHttpMessageConverter.CHART_COLUMNAR)).isFalse();
+    }
+
+    @Test
+    void neverReads() {
+        assertThat(converter.canRead(ChartDataDto.class, ChartColumnarHttpMessageConverter.CHART_COLUMNAR)).isFalse();
+    }
+}
@@ -0,0 +1,287 @@
+package dev.gyeoul.esginsightboard.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.config.ChartDraftProperties;
+import dev.gyeoul.esginsightboard.dto.ChartDraft;
+import dev.gyeoul.esginsightboard.dto.EsgChartDataDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChartRepositoryTest {
+
+    private static final long USER_A = 1L;
+    private static final long USER_B = 2L;
+
+    @TempDir
+    Path tempDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    private final List<ChartRepository> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeRepositories() {
+        opened.forEach(ChartRepository::close);
+    }
+
+    @Test
+    void concurrentSavesKeepOnlyLatestDraftsPerUser() throws Exception {
+        ChartRepository repository = repository(10, false);
+        int threads = 8;
+        int savesPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < savesPerThread; i++) {
+                        repository.save(USER_A, chart("draft-" + i));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<ChartDraft> drafts = repository.findByUserId(USER_A);
+        assertThat(drafts).hasSize(10);
+        assertThat(drafts).extracting(ChartDraft::id).isSorted().doesNotHaveDuplicates();
+        assertThat(repository.findByUserId(USER_B)).isEmpty();
+    }
+
+    @Test
+    void oldestDraftIsDroppedWhenCapIsExceeded() {
+        ChartRepository repository = repository(2, false);
+        ChartDraft first = repository.save(USER_A, chart("1"));
+        ChartDraft second = repository.save(USER_A, chart("2"));
+        ChartDraft third = repository.save(USER_A, chart("3"));
+
+        assertThat(repository.findByUserId(USER_A)).containsExactly(second, third);
+        assertThat(repository.findById(USER_A, first.id())).isEmpty();
+    }
+
+    @Test
+    void expiredDraftsAreHiddenAndThenEvicted() {
+        ChartRepository repository = repository(10, false);
+        ChartDraft expired = repository.save(USER_A, chart("old"));
+        clock.advance(Duration.ofHours(23));
+        ChartDraft fresh = repository.save(USER_A, chart("new"));
+
+        clock.advance(Duration.ofHours(2));
+        assertThat(repository.findByUserId(USER_A)).containsExactly(fresh);
+        assertThat(repository.findById(USER_A, expired.id())).isEmpty();
+
+        repository.evictExpired();
+        // 시각을 되돌려도 보이지 않으면 숨김이 아니라 실제로 제거된 것
+        clock.set(Instant.parse("2024-01-01T00:00:00Z"));
+        assertThat(repository.findByUserId(USER_A)).containsExactly(fresh);
+        assertThat(repository.deleteById(USER_A, expired.id())).isFalse();
+    }
+
+    @Test
+    void readsReturnSnapshotsUnaffectedByLaterChanges() {
+        ChartRepository repository = repository(10, false);
+        Map<String, String> inputs = new HashMap<>(Map.of("2023", "100"));
+        EsgChartDataDto source = EsgChartDataDto.builder()
+                .category("E").chartTitle("배출량").indicatorCode("GRI 305-1").indicatorInputs(inputs).build();
+        ChartDraft saved = repository.save(USER_A, source);
+        List<ChartDraft> before = repository.findByUserId(USER_A);
+
+        inputs.put("2024", "200");
+        repository.save(USER_A, chart("later"));
+        repository.deleteById(USER_A, saved.id());
+
+        assertThat(before).containsExactly(saved);
+        assertThat(before.get(0).chart().getIndicatorInputs()).containsOnlyKeys("2023");
+        assertThatThrownBy(() -> before.add(saved)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> saved.chart().getIndicatorInputs().put("2025", "300"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void deleteByUserIdRemovesOnlyThatUsersDrafts() {
+        ChartRepository repository = repository(10, false);
+        repository.save(USER_A, chart("a1"));
+        repository.save(USER_A, chart("a2"));
+        ChartDraft other = repository.save(USER_B, chart("b1"));
+
+        assertThat(repository.deleteByUserId(USER_A)).isEqualTo(2);
+        assertThat(repository.findByUserId(USER_A)).isEmpty();
+        assertThat(repository.findByUserId(USER_B)).containsExactly(other);
+        assertThat(repository.findById(USER_A, other.id())).isEmpty();
+    }
+
+    @Test
+    void journalReplayRestoresDraftsAfterDeleteAndClear() throws Exception {
+        ChartRepository repository = repository(10, true);
+        ChartDraft a1 = repository.save(USER_A, chart("a1"));
+        ChartDraft a2 = repository.save(USER_A, chart("a2"));
+        ChartDraft a3 = repository.save(USER_A, chart("a3"));
+        repository.save(USER_B, chart("b1"));
+        repository.save(USER_B, chart("b2"));
+        repository.deleteById(USER_A, a2.id());
+        repository.deleteByUserId(USER_B);
+        repository.close();
+        // 비정상 종료로 마지막 줄이 잘린 경우
+        Files.writeString(journalPath(), "{\"op\":\"SAVE\",\"id\":99,\"userId\":1,\"sav",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        ChartRepository restored = repository(10, true);
+
+        assertThat(restored.findByUserId(USER_A)).extracting(ChartDraft::id).containsExactly(a1.id(), a3.id());
+        assertThat(restored.findByUserId(USER_A)).extracting(draft -> draft.chart().getChartTitle())
+                .containsExactly("a1", "a3");
+        assertThat(restored.findByUserId(USER_B)).isEmpty();
+        // 새 ID는 복원한 ID 이후부터 발급
+        assertThat(restored.save(USER_A, chart("a4")).id()).isGreaterThan(a3.id());
+    }
+
+    @Test
+    void journalReplayDoesNotResurrectDraftsDroppedByCap() {
+        ChartRepository repository = repository(2, true);
+        repository.save(USER_A, chart("1"));
+        ChartDraft second = repository.save(USER_A, chart("2"));
+        ChartDraft third = repository.save(USER_A, chart("3"));
+        repository.deleteById(USER_A, third.id());
+        repository.close();
+
+        ChartRepository restored = repository(2, true);
+
+        assertThat(restored.findByUserId(USER_A)).extracting(ChartDraft::id).containsExactly(second.id());
+    }
+
+    @Test
+    void journalReplaySkipsDraftsOlderThanTtl() {
+        ChartRepository repository = repository(10, true);
+        repository.save(USER_A, chart("old"));
+        clock.advance(Duration.ofHours(23));
+        ChartDraft fresh = repository.save(USER_A, chart("new"));
+        repository.close();
+
+        clock.advance(Duration.ofHours(2));
+        ChartRepository restored = repository(10, true);
+
+        assertThat(restored.findByUserId(USER_A)).extracting(ChartDraft::id).containsExactly(fresh.id());
+    }
+
+    @Test
+    void journalKeepsSaveBeforeDeleteUnderConcurrency() throws Exception {
+        ChartRepository repository = repository(50, true);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long userId = t % 2 == 0 ? USER_A : USER_B;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        ChartDraft draft = repository.save(userId, chart("tmp"));
+                        repository.deleteById(userId, draft.id());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        repository.close();
+
+        ChartRepository restored = repository(50, true);
+
+        assertThat(restored.findByUserId(USER_A)).isEmpty();
+        assertThat(restored.findByUserId(USER_B)).isEmpty();
+    }
+
+    private ChartRepository repository(int maxPerUser, boolean journal) {
+        ChartDraftProperties properties = new ChartDraftProperties();
+        properties.setMaxPerUser(maxPerUser);
+        properties.setTtl(Duration.ofHours(24));
+        properties.getJournal().setEnabled(journal);
+        properties.getJournal().setPath(journalPath().toString());
+        ChartRepository repository = new ChartRepository(properties, objectMapper, clock);
+        repository.restore();
+        opened.add(repository);
+        return repository;
+    }
+
+    private Path journalPath() {
+        return tempDir.resolve("chart-drafts.journal");
+    }
+
+    private static EsgChartDataDto chart(String title) {
+        return EsgChartDataDto.builder()
+                .category("E")
+                .chartTitle(title)
+                .indicatorCode("GRI 302-1")
+                .indicatorInputs(Map.of("2024", "1"))
+                .unit("kWh")
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void set(Instant instant) {
+            now = instant;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
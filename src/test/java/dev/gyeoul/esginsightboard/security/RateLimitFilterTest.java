@@ -0,0 +1,123 @@
+package dev.gyeoul.esginsightboard.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.config.RateLimitProperties;
+import dev.gyeoul.esginsightboard.dto.UserDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getGroups().put("login", group(List.of("/api/users/login"), List.of("POST"),
+                RateLimitProperties.KeyType.IP, 2, Duration.ofSeconds(10)));
+        properties.getGroups().put("gri-list", group(List.of("/api/gri/**"), List.of(),
+                RateLimitProperties.KeyType.USER, 1, Duration.ofSeconds(4)));
+        filter = new RateLimitFilter(properties, new RateLimiter(now::get), objectMapper);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsRequestsOverCapacityWith429AndRetryAfter() throws Exception {
+        assertThat(send("POST", "/api/users/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("POST", "/api/users/login", "10.0.0.1").getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = send("POST", "/api/users/login", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+        assertThat(rejected.getContentType()).startsWith("application/json");
+        Map<?, ?> body = objectMapper.readValue(rejected.getContentAsByteArray(), Map.class);
+        assertThat(body.get("success")).isEqualTo(false);
+        assertThat(body.get("error")).isEqualTo("TOO_MANY_REQUESTS");
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() throws Exception {
+        send("POST", "/api/users/login", "10.0.0.1");
+        send("POST", "/api/users/login", "10.0.0.1");
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(4500));
+
+        assertThat(send("POST", "/api/users/login", "10.0.0.1").getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(send("POST", "/api/users/login", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void ipGroupSeparatesClients() throws Exception {
+        send("POST", "/api/users/login", "10.0.0.1");
+        send("POST", "/api/users/login", "10.0.0.1");
+
+        assertThat(send("POST", "/api/users/login", "10.0.0.1").getStatus()).isEqualTo(429);
+        assertThat(send("POST", "/api/users/login", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void userGroupSeparatesAuthenticatedUsersRegardlessOfIp() throws Exception {
+        authenticate(1L);
+        assertThat(send("GET", "/api/gri/1", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(send("GET", "/api/gri/2", "10.0.0.2").getStatus()).isEqualTo(429);
+
+        authenticate(2L);
+        assertThat(send("GET", "/api/gri/1", "10.0.0.1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void requestsOutsideGroupsOrMethodsAreNotLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertThat(send("GET", "/api/users/login", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(send("POST", "/api/charts", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static void authenticate(Long userId) {
+        UserDto user = UserDto.builder().id(userId).email("user" + userId + "@example.com").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static RateLimitProperties.Group group(List<String> paths, List<String> methods,
+                                                   RateLimitProperties.KeyType key, int capacity, Duration period) {
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setPaths(paths);
+        group.setMethods(methods);
+        group.setKey(key);
+        group.setCapacity(capacity);
+        group.setPeriod(period);
+        return group;
+    }
+}
@@ -0,0 +1,74 @@
+package dev.gyeoul.esginsightboard.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final RateLimiter rateLimiter = new RateLimiter(now::get);
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWait() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("login:ip:1", 3, SECOND)).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("login:ip:1", 3, SECOND)).isEqualTo(SECOND);
+
+        now.addAndGet(SECOND / 4);
+        assertThat(rateLimiter.tryAcquire("login:ip:1", 3, SECOND)).isEqualTo(SECOND * 3 / 4);
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("login:ip:1", 3, SECOND);
+        }
+
+        now.addAndGet(SECOND);
+        assertThat(rateLimiter.tryAcquire("login:ip:1", 3, SECOND)).isZero();
+        assertThat(rateLimiter.tryAcquire("login:ip:1", 3, SECOND)).isPositive();
+
+        // 오래 쉬어도 capacity보다 많이 쌓이지 않음
+        now.addAndGet(SECOND * 60);
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire("login:ip:1", 3, SECOND)).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("login:ip:1", 3, SECOND)).isPositive();
+    }
+
+    @Test
+    void keysHaveIndependentBuckets() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("login:ip:1", 3, SECOND);
+        }
+        assertThat(rateLimiter.tryAcquire("login:ip:1", 3, SECOND)).isPositive();
+        assertThat(rateLimiter.tryAcquire("login:ip:2", 3, SECOND)).isZero();
+        assertThat(rateLimiter.tryAcquire("gri-list:ip:1", 3, SECOND)).isZero();
+    }
+
+    @Test
+    void evictsOnlyFullyRefilledBuckets() {
+        rateLimiter.tryAcquire("a", 3, SECOND);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("b", 3, SECOND);
+        }
+
+        now.addAndGet(SECOND);
+        rateLimiter.evictIdleBuckets();
+        assertThat(rateLimiter.bucketCount()).isEqualTo(1);
+        // 남은 버킷은 상태를 유지
+        assertThat(rateLimiter.tryAcquire("b", 3, SECOND)).isZero();
+        assertThat(rateLimiter.tryAcquire("b", 3, SECOND)).isPositive();
+
+        now.addAndGet(SECOND * 3);
+        rateLimiter.evictIdleBuckets();
+        assertThat(rateLimiter.bucketCount()).isZero();
+    }
+}
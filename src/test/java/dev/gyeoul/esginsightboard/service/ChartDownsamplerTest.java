@@ -0,0 +1,86 @@
+package dev.gyeoul.esginsightboard.service;
+
+import dev.gyeoul.esginsightboard.config.ChartDownsamplingProperties;
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChartDownsamplerTest {
+
+    private final ChartDownsamplingProperties properties = new ChartDownsamplingProperties();
+    private final ChartDownsampler downsampler = new ChartDownsampler(properties);
+
+    ChartDownsamplerTest() {
+        properties.setPointsPerGrid(Map.of("line", 250, "bar", 60));
+    }
+
+    @Test
+    void maxPointsScalesWithClampedGrid() {
+        assertThat(downsampler.maxPoints("Line", 1)).isEqualTo(250);
+        assertThat(downsampler.maxPoints("line", 3)).isEqualTo(750);
+        assertThat(downsampler.maxPoints("Bar", null)).isEqualTo(60);
+        assertThat(downsampler.maxPoints("Bar", 0)).isEqualTo(60);
+        assertThat(downsampler.maxPoints("Bar", 9)).isEqualTo(240);
+    }
+
+    @Test
+    void maxPointsIsUnlimitedForUnconfiguredTypesOrWhenDisabled() {
+        assertThat(downsampler.maxPoints("Pie", 2)).isEqualTo(ChartDownsampler.NO_LIMIT);
+        assertThat(downsampler.maxPoints(null, 2)).isEqualTo(ChartDownsampler.NO_LIMIT);
+
+        properties.setEnabled(false);
+        assertThat(downsampler.maxPoints("Line", 2)).isEqualTo(ChartDownsampler.NO_LIMIT);
+    }
+
+    @Test
+    void downsamplesNumericSeriesKeepingEndpoints() {
+        List<ChartSeriesPoint> points = series(1000);
+
+        List<ChartSeriesPoint> sampled = downsampler.downsample(points, 100);
+
+        assertThat(sampled).hasSize(100);
+        assertThat(sampled.get(0)).isSameAs(points.get(0));
+        assertThat(sampled.get(99)).isSameAs(points.get(999));
+        assertThat(points).containsAll(sampled);
+    }
+
+    @Test
+    void leavesSeriesUnchangedWhenWithinLimitOrUnlimited() {
+        List<ChartSeriesPoint> points = series(100);
+
+        assertThat(downsampler.downsample(points, 100)).isSameAs(points);
+        assertThat(downsampler.downsample(points, 500)).isSameAs(points);
+        assertThat(downsampler.downsample(points, ChartDownsampler.NO_LIMIT)).isSameAs(points);
+    }
+
+    @Test
+    void leavesSeriesUnchangedWhenAnyValueIsMissingOrNotNumeric() {
+        List<ChartSeriesPoint> withNullPoint = series(100);
+        withNullPoint.set(50, null);
+        List<ChartSeriesPoint> withNullValue = series(100);
+        withNullValue.set(50, ChartSeriesPoint.of("50", null));
+        List<ChartSeriesPoint> withText = series(100);
+        withText.set(50, new ChartSeriesPoint("50", "n/a"));
+        List<ChartSeriesPoint> withNaN = series(100);
+        withNaN.set(50, ChartSeriesPoint.of("50", Double.NaN));
+        List<ChartSeriesPoint> withInfinity = series(100);
+        withInfinity.set(50, ChartSeriesPoint.of("50", Double.POSITIVE_INFINITY));
+
+        for (List<ChartSeriesPoint> points : List.of(withNullPoint, withNullValue, withText, withNaN, withInfinity)) {
+            assertThat(downsampler.downsample(points, 10)).isSameAs(points);
+        }
+    }
+
+    private static List<ChartSeriesPoint> series(int size) {
+        List<ChartSeriesPoint> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(ChartSeriesPoint.of(String.valueOf(i), Math.sin(i / 10.0) * 100));
+        }
+        return points;
+    }
+}
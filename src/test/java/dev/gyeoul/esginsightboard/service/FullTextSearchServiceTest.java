@@ -0,0 +1,214 @@
+package dev.gyeoul.esginsightboard.service;
+
+import dev.gyeoul.esginsightboard.config.DatabasePlatform;
+import dev.gyeoul.esginsightboard.dto.SearchHit;
+import dev.gyeoul.esginsightboard.entity.ChartData;
+import dev.gyeoul.esginsightboard.entity.Company;
+import dev.gyeoul.esginsightboard.entity.GriDataItem;
+import dev.gyeoul.esginsightboard.entity.User;
+import dev.gyeoul.esginsightboard.repository.ChartDataRepository;
+import dev.gyeoul.esginsightboard.repository.CompanyRepository;
+import dev.gyeoul.esginsightboard.repository.GriDataItemRepository;
+import dev.gyeoul.esginsightboard.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 내장 H2(메모리 역색인) 기준 전문 검색 테스트
+ * <p>
+ * 색인은 커밋 후에 반영되므로 테스트 트랜잭션을 쓰지 않고, 저장/수정/삭제를 각각 커밋합니다.
+ * ChartDataRepositoryImpl이 ObjectMapper를 주입받으므로 JPA 슬라이스에 Jackson 자동 설정을 추가합니다.
+ * </p>
+ */
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({FullTextSearchService.class, DatabasePlatform.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FullTextSearchServiceTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private FullTextSearchService searchService;
+
+    @Autowired
+    private DatabasePlatform databasePlatform;
+
+    @Autowired
+    private ChartDataRepository chartDataRepository;
+
+    @Autowired
+    private GriDataItemRepository griDataItemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(user("owner@example.com"));
+        otherUser = userRepository.save(user("other@example.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        chartDataRepository.deleteAll();
+        griDataItemRepository.deleteAll();
+        userRepository.deleteAll();
+        companyRepository.deleteAll();
+    }
+
+    @Test
+    void runsOnH2() {
+        assertThat(databasePlatform.isH2()).isTrue();
+    }
+
+    @Test
+    void chartSearchRequiresEveryTermAndIsScopedToOwner() {
+        ChartData emissions = chartDataRepository.save(chart(owner, "온실가스 배출량 추이", "연도별 스코프 1 배출"));
+        ChartData reduction = chartDataRepository.save(chart(owner, "온실가스 감축 목표", "2030 목표"));
+        chartDataRepository.save(chart(owner, "에너지 사용량", "전력 배출 계수"));
+        chartDataRepository.save(chart(otherUser, "온실가스 배출량", "다른 사용자"));
+
+        assertThat(ids(searchService.searchCharts("온실가스 배출", owner.getId(), FIRST_PAGE)))
+                .containsExactly(emissions.getId());
+        assertThat(ids(searchService.searchCharts("온실가스", owner.getId(), FIRST_PAGE)))
+                .containsExactlyInAnyOrder(emissions.getId(), reduction.getId());
+        assertThat(searchService.searchCharts("수자원", owner.getId(), FIRST_PAGE)).isEmpty();
+    }
+
+    @Test
+    void chartSearchRanksTitleMatchesAboveDescriptionMatches() {
+        ChartData inDescription = chartDataRepository.save(chart(owner, "분기 보고", "용수 사용량 변화"));
+        ChartData inTitle = chartDataRepository.save(chart(owner, "용수 사용량", "분기 보고"));
+
+        Page<SearchHit<Long>> page = searchService.searchCharts("용수 사용량", owner.getId(), FIRST_PAGE);
+
+        assertThat(ids(page)).containsExactly(inTitle.getId(), inDescription.getId());
+        assertThat(page.getContent().get(0).score()).isGreaterThan(page.getContent().get(1).score());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void committedChangesUpdateTheIndex() {
+        ChartData chart = chartDataRepository.save(chart(owner, "폐기물 발생량", "사업장 폐기물"));
+        assertThat(ids(searchService.searchCharts("폐기물", owner.getId(), FIRST_PAGE))).containsExactly(chart.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            ChartData loaded = chartDataRepository.findById(chart.getId()).orElseThrow();
+            loaded.update("재활용률", "사업장 재활용", loaded.getCategory(), loaded.getIndicator(),
+                    loaded.getChartType(), loaded.getChartGrid(), loaded.getData());
+        });
+        assertThat(searchService.searchCharts("폐기물", owner.getId(), FIRST_PAGE)).isEmpty();
+        assertThat(ids(searchService.searchCharts("재활용", owner.getId(), FIRST_PAGE))).containsExactly(chart.getId());
+
+        chartDataRepository.deleteById(chart.getId());
+        assertThat(searchService.searchCharts("재활용", owner.getId(), FIRST_PAGE)).isEmpty();
+    }
+
+    @Test
+    void rolledBackChangesAreNotIndexed() {
+        // 색인을 먼저 적재해 두어야 변경 반영 경로를 거침
+        searchService.searchCharts("준비", owner.getId(), FIRST_PAGE);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            chartDataRepository.save(chart(owner, "생물 다양성", "보호 구역"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(searchService.searchCharts("다양성", owner.getId(), FIRST_PAGE)).isEmpty();
+    }
+
+    @Test
+    void griSearchCoversTitleDescriptionAndValueAndFiltersByCompany() {
+        Company company = companyRepository.save(Company.builder().name("그린에너지").build());
+        Company otherCompany = companyRepository.save(Company.builder().name("블루워터").build());
+        GriDataItem byTitle = griDataItemRepository.save(griItem(company, "에너지 소비량", null, null));
+        GriDataItem byValue = griDataItemRepository.save(griItem(company, "기타 공시", null, "태양광 에너지 전환"));
+        GriDataItem otherCompanyItem = griDataItemRepository.save(griItem(otherCompany, "에너지 집약도", "설명", null));
+
+        assertThat(ids(searchService.searchGriDataItems("에너지", company.getId(), FIRST_PAGE)))
+                .containsExactly(byTitle.getId(), byValue.getId());
+        assertThat(ids(searchService.searchGriDataItems("에너지", null, FIRST_PAGE)))
+                .containsExactlyInAnyOrder(byTitle.getId(), byValue.getId(), otherCompanyItem.getId());
+        assertThat(ids(searchService.searchGriDataItems("태양광 전환", null, FIRST_PAGE)))
+                .containsExactly(byValue.getId());
+    }
+
+    @Test
+    void rejectsEmptyQueriesAndOversizedPages() {
+        assertThatThrownBy(() -> searchService.searchCharts("  ", owner.getId(), FIRST_PAGE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.searchCharts(null, owner.getId(), FIRST_PAGE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchService.searchCharts("배출", owner.getId(),
+                PageRequest.of(0, FullTextSearchService.MAX_PAGE_SIZE + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> ids(Page<SearchHit<Long>> page) {
+        return page.getContent().stream().map(SearchHit::item).toList();
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .password("password")
+                .name("테스트")
+                .accountNonExpired(true)
+                .accountNonLocked(true)
+                .credentialsNonExpired(true)
+                .enabled(true)
+                .build();
+    }
+
+    private static ChartData chart(User user, String title, String description) {
+        return ChartData.builder()
+                .user(user)
+                .title(title)
+                .description(description)
+                .category("E")
+                .indicator("GRI 305-1")
+                .chartType("Line")
+                .chartGrid(1)
+                .data(List.of())
+                .build();
+    }
+
+    private static GriDataItem griItem(Company company, String title, String description, String value) {
+        return GriDataItem.builder()
+                .standardCode("GRI 302")
+                .disclosureCode("302-1")
+                .disclosureTitle(title)
+                .description(description)
+                .disclosureValue(value)
+                .category("E")
+                .company(company)
+                .build();
+    }
+}
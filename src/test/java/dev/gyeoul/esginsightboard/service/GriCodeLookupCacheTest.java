@@ -0,0 +1,110 @@
+package dev.gyeoul.esginsightboard.service;
+
+import dev.gyeoul.esginsightboard.dto.GriDataItemDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GriCodeLookupCacheTest {
+
+    private final GriCodeLookupCache cache =
+            new GriCodeLookupCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+    }
+
+    @Test
+    void loadsOncePerCodeAndLookup() {
+        List<GriDataItemDto> first = cache.getByStandardCode("GRI 302", () -> load("302-1"));
+        List<GriDataItemDto> second = cache.getByStandardCode("GRI 302", () -> load("302-1"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+
+        // 같은 코드라도 조회 종류가 다르면 별도 항목
+        cache.getByDisclosureCode("GRI 302", () -> load("302-1"));
+        cache.getByStandardCode("GRI 305", () -> load("305-1"));
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void returnsUnmodifiableLists() {
+        List<GriDataItemDto> result = cache.getByDisclosureCode("302-1", () -> load("302-1"));
+
+        assertThatThrownBy(() -> result.add(dto("302-2"))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void invalidateAllOutsideTransactionClearsImmediately() {
+        cache.getByStandardCode("GRI 302", () -> load("302-1"));
+
+        cache.invalidateAll();
+        cache.getByStandardCode("GRI 302", () -> load("302-1"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidateAllInsideTransactionClearsOnceAfterCompletion() {
+        cache.getByStandardCode("GRI 302", () -> load("302-1"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAll();
+        cache.invalidateAll();
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+        // 트랜잭션이 끝나기 전에는 기존 값 유지
+        cache.getByStandardCode("GRI 302", () -> load("302-1"));
+        assertThat(loads).hasValue(1);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        cache.getByStandardCode("GRI 302", () -> load("302-1"));
+        assertThat(loads).hasValue(2);
+        assertThat(TransactionSynchronizationManager.hasResource(cache)).isFalse();
+    }
+
+    @Test
+    void resultLoadedWhileClearingIsNotKept() {
+        cache.getByStandardCode("GRI 302", () -> {
+            // 읽는 도중 다른 트랜잭션이 커밋되어 캐시가 비워진 경우
+            cache.invalidateAll();
+            return load("302-1");
+        });
+
+        cache.getByStandardCode("GRI 302", () -> load("302-1"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private List<GriDataItemDto> load(String disclosureCode) {
+        loads.incrementAndGet();
+        return new ArrayList<>(List.of(dto(disclosureCode)));
+    }
+
+    private static GriDataItemDto dto(String disclosureCode) {
+        return GriDataItemDto.builder()
+                .standardCode("GRI " + disclosureCode.substring(0, 3))
+                .disclosureCode(disclosureCode)
+                .disclosureTitle("테스트 공시")
+                .category("E")
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package dev.gyeoul.esginsightboard.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.gyeoul.esginsightboard.dto.ChartDataDto;
+import dev.gyeoul.esginsightboard.dto.ChartSeriesPoint;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class ChartColumnarCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void roundTripKeepsNullsRepeatedLabelsAndExtraProperties() throws IOException {
+        ChartDataDto chart = chart(7L, "온실가스 배출량", new ArrayList<>(Arrays.asList(
+                ChartSeriesPoint.of("2023", 1520.5),
+                ChartSeriesPoint.of("2023", null),
+                ChartSeriesPoint.of(null, 0.0),
+                ChartSeriesPoint.of("2024", -3.25),
+                new ChartSeriesPoint(2025, "집계 중"),
+                null)));
+        chart.setUserId(3L);
+        chart.setCategory("E");
+        chart.setChartGrid(2);
+
+        List<ChartDataDto> decoded = roundTrip(List.of(chart));
+
+        assertThat(decoded).hasSize(1);
+        ChartDataDto result = decoded.get(0);
+        assertThat(result).usingRecursiveComparison().ignoringFields("data").isEqualTo(chart);
+        assertThat(result.getData()).containsExactly(
+                ChartSeriesPoint.of("2023", 1520.5),
+                ChartSeriesPoint.of("2023", null),
+                ChartSeriesPoint.of(null, 0.0),
+                ChartSeriesPoint.of("2024", -3.25),
+                new ChartSeriesPoint(2025, "집계 중"),
+                // data 안의 null 항목은 빈 항목으로 전송
+                ChartSeriesPoint.of(null, null));
+    }
+
+    @Test
+    void roundTripKeepsEmptyAndMissingSeries() throws IOException {
+        ChartDataDto empty = chart(1L, "빈 차트", List.of());
+        ChartDataDto missing = chart(null, null, null);
+
+        List<ChartDataDto> decoded = roundTrip(List.of(empty, missing));
+
+        assertThat(decoded).hasSize(2);
+        assertThat(decoded.get(0).getData()).isEmpty();
+        assertThat(decoded.get(1).getId()).isNull();
+        assertThat(decoded.get(1).getTitle()).isNull();
+        assertThat(decoded.get(1).getData()).isNull();
+        assertThat(roundTrip(List.of())).isEmpty();
+    }
+
+    @Test
+    void roundTripUsesWiderLabelCodesForLargeDictionaries() throws IOException {
+        for (int size : new int[]{255, 300, 70_000}) {
+            List<ChartSeriesPoint> points = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                points.add(ChartSeriesPoint.of("L" + i, (double) i));
+            }
+            List<ChartDataDto> decoded = roundTrip(List.of(chart(1L, "x", points)));
+            assertThat(decoded.get(0).getData()).as("size %d", size).isEqualTo(points);
+        }
+    }
+
+    @Test
+    void repeatedLabelsAreSentOnce() throws IOException {
+        List<ChartSeriesPoint> repeated = new ArrayList<>();
+        List<ChartSeriesPoint> distinct = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            repeated.add(ChartSeriesPoint.of("2024-01", (double) i));
+            distinct.add(ChartSeriesPoint.of(String.format("%07d", i), (double) i));
+        }
+
+        int repeatedSize = encode(List.of(chart(1L, "x", repeated))).length;
+        int distinctSize = encode(List.of(chart(1L, "x", distinct))).length;
+
+        // 라벨 문자열(4바이트 길이 + 7바이트) 99개만큼 작음 (value 열 정렬 padding 차이 최대 7바이트)
+        assertThat(distinctSize - repeatedSize).isCloseTo(99 * 11, within(7));
+    }
+
+    @Test
+    void valueColumnIsLittleEndianAndEightByteAligned() throws IOException {
+        double marker = 12345.678;
+        // 제목 길이를 바꿔 가며 정렬 전 위치가 달라져도 항상 8바이트 경계에서 시작하는지 확인
+        for (String title : List.of("a", "ab", "abc", "abcd", "abcde", "abcdef", "abcdefg", "abcdefgh")) {
+            byte[] bytes = encode(List.of(chart(1L, title, List.of(
+                    ChartSeriesPoint.of("2023", marker), ChartSeriesPoint.of("2024", 1.0)))));
+
+            int offset = indexOf(bytes, marker);
+            assertThat(offset).as("title %s", title).isNotNegative();
+            assertThat(offset % Double.BYTES).as("title %s", title).isZero();
+            double[] column = new double[2];
+            ByteBuffer.wrap(bytes, offset, 16).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(column);
+            assertThat(column).containsExactly(marker, 1.0);
+        }
+    }
+
+    @Test
+    void decodeRejectsUnknownFormat() {
+        byte[] bytes = {'J', 'S', 'O', 'N', 1, 0, 0, 0, 0};
+
+        assertThatThrownBy(() -> ChartColumnarCodec.decode(new ByteArrayInputStream(bytes), objectMapper))
+                .isInstanceOf(IOException.class);
+    }
+
+    private List<ChartDataDto> roundTrip(List<ChartDataDto> charts) throws IOException {
+        return ChartColumnarCodec.decode(new ByteArrayInputStream(encode(charts)), objectMapper);
+    }
+
+    private byte[] encode(List<ChartDataDto> charts) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChartColumnarCodec.encode(charts, out, objectMapper);
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] bytes, double value) {
+        byte[] pattern = ByteBuffer.allocate(Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).putDouble(value).array();
+        for (int i = 0; i + pattern.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static ChartDataDto chart(Long id, String title, List<ChartSeriesPoint> data) {
+        ChartDataDto chart = new ChartDataDto();
+        chart.setId(id);
+        chart.setTitle(title);
+        chart.setData(data);
+        return chart;
+    }
+}
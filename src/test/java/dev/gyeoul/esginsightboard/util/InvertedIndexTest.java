@@ -0,0 +1,98 @@
+package dev.gyeoul.esginsightboard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InvertedIndexTest {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void returnsOnlyDocumentsContainingEveryQueryToken() {
+        put(1, 10L, "온실가스 배출량");
+        put(2, 10L, "온실가스 감축");
+        put(3, 10L, "에너지 배출");
+
+        assertThat(ids(index.search("온실가스 배출", null, 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search("온실가스", null, 0, 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("수자원", null, 0, 10).total()).isZero();
+    }
+
+    @Test
+    void scoresByWeightedTermFrequencyTimesInverseDocumentFrequency() {
+        // 2글자 단어는 토큰 하나
+        put(1, null, "xx yy");
+        put(2, null, "xx");
+        put(3, null, "xx xx");
+        put(4, null, "zz");
+
+        InvertedIndex.Result common = index.search("xx", null, 0, 10);
+        // tf가 큰 문서가 앞, 같은 점수는 ID 내림차순
+        assertThat(ids(common)).containsExactly(3L, 2L, 1L);
+        double commonIdf = Math.log1p(4.0 / 3);
+        assertThat(common.hits().get(0).score()).isCloseTo(2 * commonIdf, within(1e-9));
+        assertThat(common.hits().get(1).score()).isCloseTo(commonIdf, within(1e-9));
+
+        // 드문 토큰일수록 점수가 높음
+        double rare = index.search("zz", null, 0, 10).hits().get(0).score();
+        assertThat(rare).isCloseTo(Math.log1p(4.0 / 1), within(1e-9)).isGreaterThan(commonIdf);
+    }
+
+    @Test
+    void titleMatchOutranksDescriptionMatch() {
+        index.put(1, null, List.of(new InvertedIndex.Field("기타", 1.0), new InvertedIndex.Field("용수 사용량", 0.4)));
+        index.put(2, null, List.of(new InvertedIndex.Field("용수 사용량", 1.0), new InvertedIndex.Field("기타", 0.4)));
+
+        assertThat(ids(index.search("용수", null, 0, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void filtersByScopeAndPagesResults() {
+        for (long id = 1; id <= 5; id++) {
+            put(id, id % 2 == 0 ? 20L : 10L, "배출량");
+        }
+
+        InvertedIndex.Result scoped = index.search("배출량", 10L, 0, 10);
+        assertThat(ids(scoped)).containsExactly(5L, 3L, 1L);
+
+        InvertedIndex.Result page = index.search("배출량", null, 2, 2);
+        assertThat(page.total()).isEqualTo(5);
+        assertThat(ids(page)).containsExactly(3L, 2L);
+        assertThat(index.search("배출량", null, 10, 2).hits()).isEmpty();
+    }
+
+    @Test
+    void putReplacesAndRemoveDeletesDocuments() {
+        put(1, null, "온실가스");
+        put(1, null, "에너지");
+
+        assertThat(index.search("온실가스", null, 0, 10).total()).isZero();
+        assertThat(ids(index.search("에너지", null, 0, 10))).containsExactly(1L);
+
+        index.remove(1);
+        assertThat(index.search("에너지", null, 0, 10).total()).isZero();
+
+        put(2, null, "에너지");
+        index.clear();
+        assertThat(index.search("에너지", null, 0, 10).total()).isZero();
+    }
+
+    @Test
+    void emptyQueryMatchesNothing() {
+        put(1, null, "배출량");
+
+        assertThat(index.search(" !? ", null, 0, 10).total()).isZero();
+    }
+
+    private void put(long id, Long scope, String text) {
+        index.put(id, scope, List.of(new InvertedIndex.Field(text, 1.0)));
+    }
+
+    private static List<Long> ids(InvertedIndex.Result result) {
+        return result.hits().stream().map(InvertedIndex.Hit::id).toList();
+    }
+}
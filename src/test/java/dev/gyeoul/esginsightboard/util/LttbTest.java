@@ -0,0 +1,81 @@
+package dev.gyeoul.esginsightboard.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LttbTest {
+
+    @Test
+    void returnsInputUnchangedWhenThresholdIsNotBelowSize() {
+        List<Integer> points = indexes(10);
+        double[] values = new Random(1).doubles(10).toArray();
+
+        assertThat(Lttb.downsample(points, values, 10)).isSameAs(points);
+        assertThat(Lttb.downsample(points, values, 11)).isSameAs(points);
+    }
+
+    @Test
+    void returnsInputUnchangedWhenThresholdIsBelowThree() {
+        List<Integer> points = indexes(10);
+        double[] values = new Random(1).doubles(10).toArray();
+
+        assertThat(Lttb.downsample(points, values, 2)).isSameAs(points);
+        assertThat(Lttb.downsample(points, values, 0)).isSameAs(points);
+        assertThat(Lttb.downsample(points, values, -1)).isSameAs(points);
+    }
+
+    @Test
+    void keepsFirstAndLastPointsAndReturnsThresholdPoints() {
+        List<Integer> points = indexes(1000);
+        double[] values = new Random(42).doubles(1000).toArray();
+
+        for (int threshold = 3; threshold < 1000; threshold += 97) {
+            List<Integer> sampled = Lttb.downsample(points, values, threshold);
+
+            assertThat(sampled).hasSize(threshold);
+            assertThat(sampled.get(0)).isZero();
+            assertThat(sampled.get(threshold - 1)).isEqualTo(999);
+            assertThat(sampled).isSorted().doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void picksExactlyOnePointFromEachBucket() {
+        int size = 1000;
+        int threshold = 7;
+        List<Integer> sampled = Lttb.downsample(indexes(size), new Random(42).doubles(size).toArray(), threshold);
+
+        // 첫/마지막 점을 제외한 998개를 5개 구간(199.6개씩)으로 나눔: [1,200) [200,400) [400,599) [599,799) [799,999)
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+            assertThat(sampled.get(bucket + 1)).as("bucket %d", bucket).isBetween(start, end - 1);
+        }
+    }
+
+    @Test
+    void keepsPeaksAndValleys() {
+        double[] values = new double[10];
+        values[2] = -50;
+        values[7] = 80;
+
+        assertThat(Lttb.downsample(indexes(10), values, 4)).containsExactly(0, 2, 7, 9);
+    }
+
+    @Test
+    void rejectsMismatchedValues() {
+        assertThatThrownBy(() -> Lttb.downsample(indexes(5), new double[4], 3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Integer> indexes(int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+}
@@ -0,0 +1,61 @@
+-- gri_data_items 인덱스 실행 계획 확인 스크립트 (PostgreSQL)
+--
+-- 사용법: Flyway 마이그레이션이 적용된 별도 DB에서 실행
+--   psql -d esg_bench -f gri-data-items-index-plans.sql
+--
+-- 1. 검증용 데이터 생성 (회사 50개, GRI 항목 50만 건)
+INSERT INTO companies (name, created_at, updated_at)
+SELECT 'bench-company-' || n, now(), now()
+FROM generate_series(1, 50) AS n;
+
+INSERT INTO gri_data_items (standard_code, disclosure_code, disclosure_title, numeric_value, unit,
+                            reporting_period_start, reporting_period_end, verification_status,
+                            category, company_id, created_at, updated_at)
+SELECT 'GRI ' || (300 + n % 20),
+       (300 + n % 20) || '-' || (1 + n % 5),
+       'bench disclosure ' || n,
+       random() * 10000,
+       'tCO2eq',
+       make_date(2015 + n % 10, 1 + n % 12, 1),
+       make_date(2015 + n % 10, 1 + n % 12, 1) + (30 + n % 335),
+       (ARRAY['검증완료', '검증중', '미검증'])[1 + n % 3],
+       (ARRAY['E', 'S', 'G'])[1 + n % 3],
+       (SELECT min(id) FROM companies) + n % 50,
+       now() - (n % 1000) * interval '1 hour',
+       now()
+FROM generate_series(1, 500000) AS n;
+
+ANALYZE gri_data_items;
+
+-- 2. 조회 메서드별 실행 계획 (Seq Scan이 아닌 인덱스 사용 여부 확인)
+
+-- findByCategory / findSummariesByCategory → idx_gri_category_period
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM gri_data_items WHERE category = 'E';
+
+-- findByStandardCodeAndDisclosureCode → idx_gri_standard_disclosure
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM gri_data_items WHERE standard_code = 'GRI 305' AND disclosure_code = '305-1';
+
+-- findByDisclosureCode → idx_gri_disclosure
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM gri_data_items WHERE disclosure_code = '302-4';
+
+-- findByVerificationStatus / 복합 검색(검증 상태 + 카테고리) → idx_gri_verification_category
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM gri_data_items WHERE verification_status = '검증중' AND category = 'S';
+
+-- findItemsByReportingPeriod (B-tree) → idx_gri_period
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM gri_data_items
+WHERE reporting_period_start <= DATE '2020-06-30' AND reporting_period_end >= DATE '2020-06-01';
+
+-- findItemsOverlappingPeriod (GiST) → idx_gri_period_range
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM gri_data_items
+WHERE daterange(reporting_period_start, reporting_period_end, '[]') && daterange(DATE '2020-06-01', DATE '2020-06-30', '[]');
+
+-- 복합 검색(회사 + 카테고리 + 기간) → idx_gri_company_category_period
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM gri_data_items
+WHERE company_id = (SELECT min(id) FROM companies) AND category = 'E' AND reporting_period_start >= DATE '2022-01-01';
+
+-- 최신 등록 순 페이지 조회 → idx_gri_created_at
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM gri_data_items ORDER BY created_at DESC LIMIT 50;
+
+-- 3. 정리
+-- DELETE FROM gri_data_items WHERE disclosure_title LIKE 'bench disclosure %';
+-- DELETE FROM companies WHERE name LIKE 'bench-company-%';